@@ -516,7 +516,10 @@ const en = {
     failedDeleteUser: 'Failed to delete user',
     failedToLoadUsers: 'Failed to load users',
     failedLoadStats: 'Failed to load stats',
-    failedUpdateStatus: 'Failed to update user status'
+    failedUpdateStatus: 'Failed to update user status',
+    loadMore: 'Load more',
+    showingUsers: 'Showing {{shown}} users',
+    showingUsersOf: 'Showing {{shown}} of {{total}} users'
   },
   adminProfile: {
     title: 'Admin Profile',
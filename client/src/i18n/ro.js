@@ -515,7 +515,10 @@ const ro = {
     failedDeleteUser: 'Ștergerea utilizatorului a eșuat',
     failedToLoadUsers: 'Încărcarea utilizatorilor a eșuat',
     failedLoadStats: 'Încărcarea statisticilor a eșuat',
-    failedUpdateStatus: 'Actualizarea stării utilizatorului a eșuat'
+    failedUpdateStatus: 'Actualizarea stării utilizatorului a eșuat',
+    loadMore: 'Încarcă mai mult',
+    showingUsers: 'Se afișează {{shown}} utilizatori',
+    showingUsersOf: 'Se afișează {{shown}} din {{total}} utilizatori'
   },
   adminProfile: {
     title: 'Profil Admin',
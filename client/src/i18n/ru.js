@@ -515,7 +515,10 @@ const ru = {
     failedDeleteUser: 'Не удалось удалить пользователя',
     failedToLoadUsers: 'Не удалось загрузить пользователей',
     failedLoadStats: 'Не удалось загрузить статистику',
-    failedUpdateStatus: 'Не удалось обновить статус пользователя'
+    failedUpdateStatus: 'Не удалось обновить статус пользователя',
+    loadMore: 'Загрузить ещё',
+    showingUsers: 'Показано пользователей: {{shown}}',
+    showingUsersOf: 'Показано {{shown}} из {{total}} пользователей'
   },
   adminProfile: {
     title: 'Профиль администратора',
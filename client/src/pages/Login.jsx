@@ -31,7 +31,7 @@ export default function Login() {
     showLoadingToast(toastId, t('auth.signingIn'));
     try {
       const res = await axios.post('/auth/login', form);
-      login(res.data.token, res.data.role, res.data.name || res.data.email, res.data.email, res.data.avatar || null);
+      login(res.data.token, res.data.role, res.data.name || res.data.email, res.data.email, res.data.avatarThumbnail || res.data.avatar || null);
 
       showToast(toastId, 'success', t('auth.loginSuccessful'), { autoClose: 1800 });
 
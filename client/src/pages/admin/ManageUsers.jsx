@@ -5,6 +5,8 @@ import { useTranslation } from 'react-i18next';
 import { showToast } from '../../services/toast';
 import { useAuth } from '../../hooks/useAuth';
 
+const PAGE_SIZE = 50;
+
 export default function ManageUsers() {
   const navigate = useNavigate();
   const { t } = useTranslation();
@@ -16,26 +18,40 @@ export default function ManageUsers() {
   const [deleteModalUser, setDeleteModalUser] = useState(null);
   const [deletingId, setDeletingId] = useState(null);
   const [updatingId, setUpdatingId] = useState(null);
+  const [page, setPage] = useState(0);
+  const [hasNext, setHasNext] = useState(false);
+  const [total, setTotal] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
-  const fetchUsers = async () => {
-    setLoading(true);
+  const fetchUsers = async (nextPage = 0) => {
+    const append = nextPage > 0;
+    if (append) {
+      setLoadingMore(true);
+    } else {
+      setLoading(true);
+    }
     setError('');
     try {
-      const res = await axios.get('/admin/users');
+      const res = await axios.get('/admin/users', {
+        params: { page: nextPage, size: PAGE_SIZE, sort: 'id,asc' },
+      });
 
-      if (Array.isArray(res.data)) {
-        setUsers(res.data);
-      } else if (Array.isArray(res.data.users)) {
-        setUsers(res.data.users);
-      } else {
+      if (!Array.isArray(res.data?.items)) {
         throw new Error('Invalid user response format');
       }
+      setUsers(prev => (append ? [...prev, ...res.data.items] : res.data.items));
+      setPage(nextPage);
+      setHasNext(!!res.data.hasNext);
+      setTotal(res.data.totalEstimated ? null : res.data.totalElements);
     } catch (err) {
       console.error('Failed to load users:', err);
       setError(t('adminDashboard.failedToLoadUsers'));
-      setUsers([]);
+      if (!append) {
+        setUsers([]);
+      }
     } finally {
       setLoading(false);
+      setLoadingMore(false);
     }
   };
 
@@ -44,7 +60,7 @@ export default function ManageUsers() {
     try {
       setUpdatingId(id);
       await axios.put(`/admin/users/${id}/status?enabled=${!enabled}`);
-      await fetchUsers();
+      setUsers(prev => prev.map(user => (user.id === id ? { ...user, enabled: !enabled } : user)));
       showToast(toastId, 'info', t(!enabled ? 'adminDashboard.approve' : 'adminDashboard.block'));
     } catch (err) {
       console.error('Failed to update user status:', err);
@@ -60,6 +76,7 @@ export default function ManageUsers() {
       setDeletingId(id);
       await axios.delete(`/admin/users/${id}`);
       setUsers(prev => prev.filter(user => user.id !== id));
+      setTotal(prev => (prev != null ? Math.max(0, prev - 1) : prev));
       showToast(toastId, 'success', t('adminDashboard.userDeleted'));
     } catch (err) {
       console.error('Failed to delete user:', err);
@@ -128,7 +145,7 @@ export default function ManageUsers() {
               </div>
               <button
                 type="button"
-                onClick={fetchUsers}
+                onClick={() => fetchUsers(0)}
                 className="px-4 py-3 rounded-2xl border border-gray-200 dark:border-gray-700 bg-white dark:bg-gray-900 text-gray-900 dark:text-white font-semibold hover:bg-gray-50 dark:hover:bg-gray-800"
               >
                 {t('common.refresh')}
@@ -216,6 +233,26 @@ export default function ManageUsers() {
                 </table>
               </div>
             )}
+
+            {!loading ? (
+              <div className="mt-4 flex items-center justify-between gap-4 text-sm text-gray-600 dark:text-gray-400">
+                <span>
+                  {total != null
+                    ? t('adminDashboard.showingUsersOf', { shown: users.length, total })
+                    : t('adminDashboard.showingUsers', { shown: users.length })}
+                </span>
+                {hasNext ? (
+                  <button
+                    type="button"
+                    onClick={() => fetchUsers(page + 1)}
+                    disabled={loadingMore}
+                    className="px-4 py-2 rounded-2xl border border-gray-200 dark:border-gray-700 bg-white dark:bg-gray-900 text-gray-900 dark:text-white font-semibold hover:bg-gray-50 dark:hover:bg-gray-800 disabled:opacity-60"
+                  >
+                    {loadingMore ? t('common.pleaseWait') : t('adminDashboard.loadMore')}
+                  </button>
+                ) : null}
+              </div>
+            ) : null}
           </div>
         </div>
       </div>
@@ -0,0 +1,54 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Trigram indexes for infix matching in the admin user search. pg_trgm needs a privilege (or, on managed
+ * Postgres, an allow-list entry) the application role may not have. If the extension cannot be created the
+ * migration fails, so Flyway retries it once an administrator has run {@code create extension pg_trgm}.
+ */
+public class V4__Trigram_search_indexes extends BaseJavaMigration {
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement st = context.getConnection().createStatement()) {
+            try {
+                st.execute("create extension if not exists pg_trgm");
+            } catch (SQLException ex) {
+                throw new IllegalStateException("pg_trgm is required for the trigram search indexes; "
+                        + "create it as a privileged role (create extension pg_trgm) and rerun the migration", ex);
+            }
+
+            createIndex(st, "idx_users_email_trgm", "users using gin (lower(email) gin_trgm_ops)");
+            createIndex(st, "idx_users_username_trgm", "users using gin (lower(username) gin_trgm_ops)");
+            createIndex(st, "idx_students_name_trgm", "students using gin (lower(name) gin_trgm_ops)");
+            createIndex(st, "idx_recruiters_company_trgm", "recruiters using gin (lower(company_name) gin_trgm_ops)");
+        }
+    }
+
+    /**
+     * A failed concurrent build leaves an INVALID index behind, which "if not exists" would then skip for good, so
+     * such a leftover is dropped before the build.
+     */
+    private void createIndex(Statement st, String name, String definition) throws SQLException {
+        boolean invalid;
+        try (ResultSet rs = st.executeQuery("select 1 from pg_index i join pg_class c on c.oid = i.indexrelid "
+                + "where not i.indisvalid and c.relnamespace = current_schema()::regnamespace and c.relname = '" + name + "'")) {
+            invalid = rs.next();
+        }
+        if (invalid) {
+            st.execute("drop index concurrently if exists " + name);
+        }
+        st.execute("create index concurrently if not exists " + name + " on " + definition);
+    }
+}
@@ -3,11 +3,13 @@ package xyz.yettensyvus.internshipfinder.config;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 
 @Configuration
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "azure", matchIfMissing = true)
 public class AzureConfig {
 
     private final Environment environment;
@@ -32,9 +34,7 @@ public class AzureConfig {
                 .buildClient();
 
         BlobContainerClient containerClient = blobServiceClient.getBlobContainerClient(containerName);
-        if (!containerClient.exists()) {
-            containerClient.create();
-        }
+        containerClient.createIfNotExists();
         return containerClient;
     }
 
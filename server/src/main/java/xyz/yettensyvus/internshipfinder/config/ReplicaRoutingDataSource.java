@@ -0,0 +1,135 @@
+package xyz.yettensyvus.internshipfinder.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out primary or replica connections. The target is chosen per transaction by
+ * {@link ReplicaRoutingTransactionManager}; anything outside a transaction goes to the primary. The replica is
+ * only used while its replay lag stays under the threshold, and only by request threads that
+ * {@link ReplicaStickinessFilter} opted in. Scheduled jobs and executor threads never opt in: they often re-read a
+ * row right after it was written, which a lagging replica would not return yet.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Target> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> REPLICA_ALLOWED = new ThreadLocal<>();
+
+    // Zero once the standby has replayed everything the primary had written when the check started, so an idle
+    // primary does not read as lag. A standby that lost its WAL stream falls behind that position as soon as the
+    // primary writes, unlike a comparison with its own receive position, and its lag then grows with the clock.
+    private static final String PRIMARY_LSN_SQL = "select pg_current_wal_lsn()::text";
+    private static final String LAG_SQL = "select case when not pg_is_in_recovery() " +
+            "or pg_last_wal_replay_lsn() >= cast(? as pg_lsn) then 0 " +
+            "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0) end";
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final JdbcTemplate primaryJdbc;
+    private final JdbcTemplate replicaJdbc;
+    private final long maxLagMs;
+
+    private final AtomicLong primaryConnections = new AtomicLong();
+    private final AtomicLong replicaConnections = new AtomicLong();
+
+    private volatile long lagMs = -1;
+    private volatile boolean replicaUsable;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, HikariDataSource replica, long maxLagMs) {
+        this.primary = primary;
+        this.replica = replica;
+        this.primaryJdbc = new JdbcTemplate(primary);
+        this.replicaJdbc = new JdbcTemplate(replica);
+        this.maxLagMs = maxLagMs;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    public static void allowReplicaReads() {
+        REPLICA_ALLOWED.set(Boolean.TRUE);
+    }
+
+    public static void disallowReplicaReads() {
+        REPLICA_ALLOWED.remove();
+    }
+
+    static Target current() {
+        return CURRENT.get();
+    }
+
+    static void route(Target target) {
+        if (target == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(target);
+        }
+    }
+
+    /**
+     * Where a new transaction should run.
+     */
+    Target select(boolean readOnly) {
+        return readOnly && replicaUsable && Boolean.TRUE.equals(REPLICA_ALLOWED.get()) ? Target.REPLICA : Target.PRIMARY;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Target target = CURRENT.get() == Target.REPLICA ? Target.REPLICA : Target.PRIMARY;
+        (target == Target.REPLICA ? replicaConnections : primaryConnections).incrementAndGet();
+        return target;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicaLag();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-ms:1000}")
+    public void checkReplicaLag() {
+        boolean usable;
+        try {
+            String primaryLsn = primaryJdbc.queryForObject(PRIMARY_LSN_SQL, String.class);
+            Double lag = replicaJdbc.queryForObject(LAG_SQL, Double.class, primaryLsn);
+            lagMs = lag == null ? 0 : lag.longValue();
+            usable = lagMs <= maxLagMs;
+        } catch (Exception ex) {
+            lagMs = -1;
+            usable = false;
+        }
+
+        if (usable != replicaUsable) {
+            System.out.println(usable
+                    ? "Read replica available, routing read-only transactions to it"
+                    : "Read replica unavailable or lagging (" + lagMs + " ms), routing all traffic to the primary");
+        }
+        replicaUsable = usable;
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    public HikariDataSource getReplica() {
+        return replica;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public long getConnectionCount(Target target) {
+        return target == Target.REPLICA ? replicaConnections.get() : primaryConnections.get();
+    }
+}
@@ -0,0 +1,64 @@
+package xyz.yettensyvus.internshipfinder.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Picks the connection target when a transaction begins, before the connection is acquired, and restores the
+ * outer transaction's target when it ends. Sessions reading from the replica may use the second-level cache but
+ * never populate it, so a lagging replica cannot put stale rows back after another node's invalidation.
+ */
+public class ReplicaRoutingTransactionManager extends JpaTransactionManager {
+
+    private static final ThreadLocal<Deque<ReplicaRoutingDataSource.Target>> OUTER = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final ReplicaRoutingDataSource router;
+
+    public ReplicaRoutingTransactionManager(ReplicaRoutingDataSource router) {
+        this.router = router;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        ReplicaRoutingDataSource.Target outer = ReplicaRoutingDataSource.current();
+        ReplicaRoutingDataSource.Target target = router.select(definition.isReadOnly());
+        ReplicaRoutingDataSource.route(target);
+        try {
+            super.doBegin(transaction, definition);
+        } catch (RuntimeException | Error ex) {
+            ReplicaRoutingDataSource.route(outer);
+            throw ex;
+        }
+        OUTER.get().push(outer == null ? ReplicaRoutingDataSource.Target.PRIMARY : outer);
+
+        if (target == ReplicaRoutingDataSource.Target.REPLICA) {
+            EntityManagerFactory emf = obtainEntityManagerFactory();
+            EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(emf);
+            if (holder != null) {
+                holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+            }
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        try {
+            super.doCleanupAfterCompletion(transaction);
+        } finally {
+            Deque<ReplicaRoutingDataSource.Target> outer = OUTER.get();
+            ReplicaRoutingDataSource.route(outer.isEmpty() ? null : outer.pop());
+            if (outer.isEmpty()) {
+                OUTER.remove();
+                ReplicaRoutingDataSource.route(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package xyz.yettensyvus.internshipfinder.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Decides which requests may read from the replica. A request that may write sets a short-lived cookie, and
+ * while the client sends it back all of its requests read from the primary (read-your-writes). The cookie travels
+ * with the client, so this holds whichever instance serves the next request. Every other request is opted in to
+ * replica reads for its duration.
+ */
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "rw_primary";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final long stickySeconds;
+
+    public ReplicaStickinessFilter(long stickyMs) {
+        this.stickySeconds = Math.max(1, (stickyMs + 999) / 1000);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean write = WRITE_METHODS.contains(request.getMethod());
+        if (write) {
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, "1")
+                    .httpOnly(true)
+                    .secure(request.isSecure())
+                    .path("/")
+                    .maxAge(stickySeconds)
+                    .sameSite("Lax")
+                    .build();
+            response.addHeader("Set-Cookie", cookie.toString());
+        }
+
+        if (write || hasStickyCookie(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingDataSource.allowReplicaReads();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.disallowReplicaReads();
+        }
+    }
+
+    private boolean hasStickyCookie(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return false;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,32 @@
+package xyz.yettensyvus.internshipfinder.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.yettensyvus.internshipfinder.dto.AnalyticsBucketDTO;
+import xyz.yettensyvus.internshipfinder.enums.AnalyticsMetric;
+import xyz.yettensyvus.internshipfinder.enums.RollupGranularity;
+import xyz.yettensyvus.internshipfinder.service.AnalyticsService;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@CrossOrigin
+public class AdminAnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @GetMapping("/{metric}")
+    public ResponseEntity<List<AnalyticsBucketDTO>> getRollups(
+            @PathVariable AnalyticsMetric metric,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        return ResponseEntity.ok(analyticsService.getRollups(metric, granularity, from, to));
+    }
+}
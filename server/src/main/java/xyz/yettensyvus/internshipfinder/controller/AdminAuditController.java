@@ -0,0 +1,36 @@
+package xyz.yettensyvus.internshipfinder.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.yettensyvus.internshipfinder.dto.AdminPageDTO;
+import xyz.yettensyvus.internshipfinder.dto.AuditEventDTO;
+import xyz.yettensyvus.internshipfinder.enums.AuditAction;
+import xyz.yettensyvus.internshipfinder.service.AuditService;
+
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/api/admin/audit")
+@CrossOrigin
+public class AdminAuditController {
+
+    @Autowired
+    private AuditService auditService;
+
+    @GetMapping
+    public ResponseEntity<AdminPageDTO<AuditEventDTO>> search(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) AuditAction action,
+            @RequestParam(required = false) String targetType,
+            @RequestParam(required = false) Long targetId,
+            @PageableDefault(size = 50) Pageable pageable
+    ) {
+        return ResponseEntity.ok(auditService.search(from, to, actor, action, targetType, targetId, pageable));
+    }
+}
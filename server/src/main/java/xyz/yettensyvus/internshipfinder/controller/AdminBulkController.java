@@ -0,0 +1,41 @@
+package xyz.yettensyvus.internshipfinder.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.yettensyvus.internshipfinder.dto.AdminBulkJobRequest;
+import xyz.yettensyvus.internshipfinder.dto.AdminBulkOperationDTO;
+import xyz.yettensyvus.internshipfinder.dto.AdminBulkUserRequest;
+import xyz.yettensyvus.internshipfinder.service.AdminBulkService;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/admin/bulk")
+@CrossOrigin
+public class AdminBulkController {
+
+    @Autowired
+    private AdminBulkService adminBulkService;
+
+    @PostMapping("/users/status")
+    public ResponseEntity<AdminBulkOperationDTO> setUsersEnabled(@RequestBody AdminBulkUserRequest req, Principal principal) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(adminBulkService.submitUserStatus(principal.getName(), req));
+    }
+
+    @PostMapping("/users/delete")
+    public ResponseEntity<AdminBulkOperationDTO> deleteUsers(@RequestBody AdminBulkUserRequest req, Principal principal) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(adminBulkService.submitUserDelete(principal.getName(), req));
+    }
+
+    @PostMapping("/jobs/status")
+    public ResponseEntity<AdminBulkOperationDTO> setJobsActive(@RequestBody AdminBulkJobRequest req, Principal principal) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(adminBulkService.submitJobStatus(principal.getName(), req));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<AdminBulkOperationDTO> getOperation(@PathVariable String id) {
+        return ResponseEntity.ok(adminBulkService.getOperation(id));
+    }
+}
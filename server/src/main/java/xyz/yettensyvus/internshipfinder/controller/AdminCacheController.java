@@ -0,0 +1,29 @@
+package xyz.yettensyvus.internshipfinder.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.yettensyvus.internshipfinder.dto.CacheRegionStatsDTO;
+import xyz.yettensyvus.internshipfinder.service.CacheStatsService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@CrossOrigin
+public class AdminCacheController {
+
+    @Autowired
+    private CacheStatsService cacheStatsService;
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheRegionStatsDTO>> getStats() {
+        return ResponseEntity.ok(cacheStatsService.getRegionStats());
+    }
+
+    @DeleteMapping("/stats")
+    public ResponseEntity<String> resetStats() {
+        cacheStatsService.resetStats();
+        return ResponseEntity.ok("Cache statistics reset");
+    }
+}
@@ -1,14 +1,12 @@
 package xyz.yettensyvus.internshipfinder.controller;
 
-import xyz.yettensyvus.internshipfinder.dto.AdminProfileDTO;
-import xyz.yettensyvus.internshipfinder.dto.AdminUserDetailsDTO;
-import xyz.yettensyvus.internshipfinder.dto.AdminUserUpdateRequest;
-import xyz.yettensyvus.internshipfinder.model.Job;
-import xyz.yettensyvus.internshipfinder.model.Recruiter;
-import xyz.yettensyvus.internshipfinder.model.Student;
-import xyz.yettensyvus.internshipfinder.model.User;
+import xyz.yettensyvus.internshipfinder.dto.*;
+import xyz.yettensyvus.internshipfinder.enums.Role;
 import xyz.yettensyvus.internshipfinder.service.AdminService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -27,18 +25,40 @@ public class AdminController {
     private AdminService adminService;
 
     @GetMapping("/students")
-    public ResponseEntity<List<Student>> getAllStudents() {
-        return ResponseEntity.ok(adminService.getAllStudents());
+    public ResponseEntity<AdminPageDTO<AdminStudentListItemDTO>> listStudents(
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) String email,
+            @PageableDefault(size = 50) Pageable pageable
+    ) {
+        return ResponseEntity.ok(adminService.listStudents(enabled, email, pageable));
     }
 
     @GetMapping("/recruiters")
-    public ResponseEntity<List<Recruiter>> getAllRecruiters() {
-        return ResponseEntity.ok(adminService.getAllRecruiters());
+    public ResponseEntity<AdminPageDTO<AdminRecruiterListItemDTO>> listRecruiters(
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String company,
+            @PageableDefault(size = 50) Pageable pageable
+    ) {
+        return ResponseEntity.ok(adminService.listRecruiters(enabled, email, company, pageable));
     }
 
     @GetMapping("/users")
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(adminService.getAllUsers());
+    public ResponseEntity<AdminPageDTO<AdminUserListItemDTO>> listUsers(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) String email,
+            @PageableDefault(size = 50) Pageable pageable
+    ) {
+        return ResponseEntity.ok(adminService.listUsers(role, enabled, email, pageable));
+    }
+
+    @GetMapping("/users/search")
+    public ResponseEntity<List<AdminUserSearchResultDTO>> searchUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(adminService.searchUsers(q, limit));
     }
 
     @GetMapping("/users/{id}")
@@ -64,20 +84,30 @@ public class AdminController {
     }
 
     @DeleteMapping("/user/{id}")
-    public ResponseEntity<String> deleteUser(@PathVariable Long id) {
-        adminService.deleteUser(id);
-        return ResponseEntity.ok("User deleted successfully");
+    public ResponseEntity<?> deleteUser(@PathVariable Long id, Principal principal) {
+        return deleteUserResponse(adminService.deleteUser(id, principal.getName()));
     }
 
     @DeleteMapping("/users/{id}")
-    public ResponseEntity<String> deleteUserCompat(@PathVariable Long id) {
-        adminService.deleteUser(id);
+    public ResponseEntity<?> deleteUserCompat(@PathVariable Long id, Principal principal) {
+        return deleteUserResponse(adminService.deleteUser(id, principal.getName()));
+    }
+
+    private ResponseEntity<?> deleteUserResponse(AdminBulkOperationDTO purge) {
+        if (purge != null) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(purge);
+        }
         return ResponseEntity.ok("User deleted successfully");
     }
 
     @GetMapping("/jobs")
-    public ResponseEntity<List<Job>> getAllJobs() {
-        return ResponseEntity.ok(adminService.getAllJobs());
+    public ResponseEntity<AdminPageDTO<AdminJobListItemDTO>> listJobs(
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) Long recruiterId,
+            @PageableDefault(size = 50) Pageable pageable
+    ) {
+        return ResponseEntity.ok(adminService.listJobs(active, company, recruiterId, pageable));
     }
 
     @PutMapping("/job/{id}/toggle")
@@ -0,0 +1,23 @@
+package xyz.yettensyvus.internshipfinder.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.yettensyvus.internshipfinder.dto.DataSourcePoolStatsDTO;
+import xyz.yettensyvus.internshipfinder.service.DataSourceStatsService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/datasource")
+@CrossOrigin
+public class AdminDataSourceController {
+
+    @Autowired
+    private DataSourceStatsService dataSourceStatsService;
+
+    @GetMapping("/pools")
+    public ResponseEntity<List<DataSourcePoolStatsDTO>> getPools() {
+        return ResponseEntity.ok(dataSourceStatsService.getPoolStats());
+    }
+}
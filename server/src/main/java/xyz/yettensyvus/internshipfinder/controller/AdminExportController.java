@@ -0,0 +1,60 @@
+package xyz.yettensyvus.internshipfinder.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import xyz.yettensyvus.internshipfinder.enums.DataFormat;
+import xyz.yettensyvus.internshipfinder.service.AdminExportService;
+
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/admin/export")
+@CrossOrigin
+public class AdminExportController {
+
+    @Autowired
+    private AdminExportService adminExportService;
+
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String dataset,
+            @RequestParam(defaultValue = "CSV") DataFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        if (!adminExportService.isExportable(dataset)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown export dataset");
+        }
+
+        String fileName = dataset + (format == DataFormat.NDJSON ? ".ndjson" : ".csv") + (gzip ? ".gz" : "");
+        MediaType contentType;
+        if (gzip) {
+            contentType = MediaType.parseMediaType("application/gzip");
+        } else if (format == DataFormat.NDJSON) {
+            contentType = MediaType.parseMediaType("application/x-ndjson");
+        } else {
+            contentType = MediaType.parseMediaType("text/csv;charset=UTF-8");
+        }
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream gz = new GZIPOutputStream(out, 64 * 1024)) {
+                    adminExportService.export(dataset, format, gz);
+                }
+            } else {
+                adminExportService.export(dataset, format, out);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,23 @@
+package xyz.yettensyvus.internshipfinder.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.yettensyvus.internshipfinder.dto.SchedulerLockDTO;
+import xyz.yettensyvus.internshipfinder.service.SchedulerLockService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/scheduler")
+@CrossOrigin
+public class AdminSchedulerController {
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @GetMapping("/locks")
+    public ResponseEntity<List<SchedulerLockDTO>> getLocks() {
+        return ResponseEntity.ok(schedulerLockService.getLocks());
+    }
+}
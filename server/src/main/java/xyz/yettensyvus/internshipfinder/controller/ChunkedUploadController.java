@@ -0,0 +1,57 @@
+package xyz.yettensyvus.internshipfinder.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.yettensyvus.internshipfinder.dto.UploadSessionCreateRequest;
+import xyz.yettensyvus.internshipfinder.dto.UploadSessionDTO;
+import xyz.yettensyvus.internshipfinder.service.ChunkedUploadService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/uploads")
+@CrossOrigin
+public class ChunkedUploadController {
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    public ResponseEntity<UploadSessionDTO> createSession(@Valid @RequestBody UploadSessionCreateRequest req, Principal principal) {
+        return ResponseEntity.ok(chunkedUploadService.createSession(principal.getName(), req));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<UploadSessionDTO> getSession(@PathVariable String id, Principal principal) {
+        return ResponseEntity.ok(chunkedUploadService.getSession(principal.getName(), id));
+    }
+
+    @PutMapping(value = "/{id}", consumes = "application/octet-stream")
+    public ResponseEntity<UploadSessionDTO> uploadChunk(
+            @PathVariable String id,
+            @RequestParam long offset,
+            HttpServletRequest request,
+            Principal principal
+    ) throws IOException {
+        try (InputStream in = request.getInputStream()) {
+            return ResponseEntity.ok(chunkedUploadService.uploadChunk(
+                    principal.getName(), id, offset, request.getContentLengthLong(), in));
+        }
+    }
+
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<UploadSessionDTO> complete(@PathVariable String id, Principal principal) {
+        return ResponseEntity.ok(chunkedUploadService.complete(principal.getName(), id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<String> abort(@PathVariable String id, Principal principal) {
+        chunkedUploadService.abort(principal.getName(), id);
+        return ResponseEntity.ok("Upload cancelled");
+    }
+}
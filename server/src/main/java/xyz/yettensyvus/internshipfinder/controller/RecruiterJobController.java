@@ -1,14 +1,20 @@
 package xyz.yettensyvus.internshipfinder.controller;
 
 import xyz.yettensyvus.internshipfinder.dto.JobDetailsResponse;
+import xyz.yettensyvus.internshipfinder.dto.JobImportResultDTO;
 import xyz.yettensyvus.internshipfinder.dto.RecruiterJobUpdateRequest;
+import xyz.yettensyvus.internshipfinder.enums.DataFormat;
 import xyz.yettensyvus.internshipfinder.model.Job;
+import xyz.yettensyvus.internshipfinder.service.JobImportService;
 import xyz.yettensyvus.internshipfinder.service.JobService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.security.Principal;
 import java.util.List;
 
@@ -20,16 +26,33 @@ public class RecruiterJobController {
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private JobImportService jobImportService;
+
     @PostMapping("/jobs")
     public ResponseEntity<JobDetailsResponse> postJob(@RequestBody Job job, Principal principal) {
-        Job saved = jobService.postJob(job, principal.getName());
-        return ResponseEntity.ok(jobService.getRecruiterJobDetails(principal.getName(), saved.getId()));
+        return ResponseEntity.ok(jobService.postJob(job, principal.getName()));
     }
 
     @PostMapping("/post-job")
     public ResponseEntity<JobDetailsResponse> postJobCompat(@RequestBody Job job, Principal principal) {
-        Job saved = jobService.postJob(job, principal.getName());
-        return ResponseEntity.ok(jobService.getRecruiterJobDetails(principal.getName(), saved.getId()));
+        return ResponseEntity.ok(jobService.postJob(job, principal.getName()));
+    }
+
+    @PostMapping(value = "/jobs/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<JobImportResultDTO> importJobs(
+            @RequestParam(required = false) DataFormat format,
+            HttpServletRequest request,
+            Principal principal
+    ) throws IOException {
+        DataFormat resolved = format;
+        if (resolved == null) {
+            String contentType = request.getContentType();
+            resolved = contentType != null && contentType.contains("ndjson") ? DataFormat.NDJSON : DataFormat.CSV;
+        }
+        try (InputStream in = request.getInputStream()) {
+            return ResponseEntity.ok(jobImportService.importJobs(principal.getName(), resolved, in));
+        }
     }
 
     @GetMapping("/jobs")
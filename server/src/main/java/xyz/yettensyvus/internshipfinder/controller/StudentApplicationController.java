@@ -1,6 +1,6 @@
 package xyz.yettensyvus.internshipfinder.controller;
 
-import xyz.yettensyvus.internshipfinder.model.Application;
+import xyz.yettensyvus.internshipfinder.dto.StudentApplicationDTO;
 import xyz.yettensyvus.internshipfinder.service.ApplicationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -31,7 +31,7 @@ public class StudentApplicationController {
     }
 
     @GetMapping("/applications")
-    public ResponseEntity<List<Application>> getApplications(Principal principal) {
+    public ResponseEntity<List<StudentApplicationDTO>> getApplications(Principal principal) {
         String email = principal.getName();
         return ResponseEntity.ok(appService.getApplicationsByEmail(email));
     }
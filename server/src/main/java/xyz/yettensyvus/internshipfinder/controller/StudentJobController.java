@@ -1,7 +1,7 @@
 package xyz.yettensyvus.internshipfinder.controller;
 
-import xyz.yettensyvus.internshipfinder.model.Job;
-import xyz.yettensyvus.internshipfinder.repository.JobRepository;
+import xyz.yettensyvus.internshipfinder.dto.JobDetailsResponse;
+import xyz.yettensyvus.internshipfinder.service.JobService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,13 +14,10 @@ import java.util.List;
 public class StudentJobController {
 
     @Autowired
-    private JobRepository jobRepository;
+    private JobService jobService;
 
     @GetMapping("/jobs")
-    public ResponseEntity<List<Job>> getAllActiveJobs(@RequestParam(required = false) Boolean paid) {
-        if (paid == null) {
-            return ResponseEntity.ok(jobRepository.findByIsActiveTrue());
-        }
-        return ResponseEntity.ok(jobRepository.findByIsActiveTrueAndPaid(paid));
+    public ResponseEntity<List<JobDetailsResponse>> getAllActiveJobs(@RequestParam(required = false) Boolean paid) {
+        return ResponseEntity.ok(jobService.getActiveJobs(paid));
     }
 }
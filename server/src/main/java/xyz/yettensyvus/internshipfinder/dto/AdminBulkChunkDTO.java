@@ -0,0 +1,20 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AdminBulkChunkDTO {
+    private int chunkIndex;
+    private long firstId;
+    private long lastId;
+    private int requested;
+    private int affected;
+    private String error;
+    private Instant processedAt;
+}
@@ -0,0 +1,16 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AdminBulkJobRequest {
+    private List<Long> ids;
+    private AdminJobFilter filter;
+    private Boolean active;
+}
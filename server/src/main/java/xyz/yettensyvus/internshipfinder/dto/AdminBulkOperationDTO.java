@@ -0,0 +1,29 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import xyz.yettensyvus.internshipfinder.enums.AdminBulkOperationStatus;
+import xyz.yettensyvus.internshipfinder.enums.AdminBulkOperationType;
+
+import java.time.Instant;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AdminBulkOperationDTO {
+    private String id;
+    private AdminBulkOperationType type;
+    private AdminBulkOperationStatus status;
+    private String requestedBy;
+    private long targetCount;
+    private long processedCount;
+    private long affectedCount;
+    private int failedChunks;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+    private List<AdminBulkChunkDTO> chunks;
+}
@@ -0,0 +1,16 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AdminBulkUserRequest {
+    private List<Long> ids;
+    private AdminUserFilter filter;
+    private Boolean enabled;
+}
@@ -0,0 +1,14 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AdminJobFilter {
+    private Boolean active;
+    private String company;
+    private Long recruiterId;
+}
@@ -0,0 +1,23 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AdminJobListItemDTO {
+    private Long id;
+    private String title;
+    private String company;
+    private String location;
+    private String type;
+    private boolean paid;
+    private boolean isActive;
+    private Date createdAt;
+    private Long recruiterId;
+    private String recruiterEmail;
+}
@@ -12,4 +12,5 @@ public class AdminProfileDTO {
     private String username;
     private String role;
     private String profilePictureUrl;
+    private String profilePictureThumbnailUrl;
 }
@@ -12,4 +12,5 @@ public class AdminRecruiterDetailsDTO {
     private String companyName;
     private String companyWebsite;
     private String profilePictureUrl;
+    private String profilePictureThumbnailUrl;
 }
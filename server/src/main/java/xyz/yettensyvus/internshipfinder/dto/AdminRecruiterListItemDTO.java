@@ -0,0 +1,16 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AdminRecruiterListItemDTO {
+    private Long id;
+    private String email;
+    private String companyName;
+    private String companyWebsite;
+    private boolean enabled;
+}
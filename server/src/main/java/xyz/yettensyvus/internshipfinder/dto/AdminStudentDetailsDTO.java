@@ -16,4 +16,5 @@ public class AdminStudentDetailsDTO {
     private String yearOfPassing;
     private String resumeUrl;
     private String profilePictureUrl;
+    private String profilePictureThumbnailUrl;
 }
@@ -0,0 +1,19 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AdminStudentListItemDTO {
+    private Long id;
+    private Long userId;
+    private String name;
+    private String email;
+    private String college;
+    private String branch;
+    private String yearOfPassing;
+    private boolean enabled;
+}
@@ -0,0 +1,15 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import xyz.yettensyvus.internshipfinder.enums.Role;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AdminUserFilter {
+    private Role role;
+    private Boolean enabled;
+    private String email;
+}
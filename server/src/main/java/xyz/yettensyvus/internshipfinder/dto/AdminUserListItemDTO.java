@@ -0,0 +1,17 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import xyz.yettensyvus.internshipfinder.enums.Role;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AdminUserListItemDTO {
+    private Long id;
+    private String username;
+    private String email;
+    private Role role;
+    private boolean enabled;
+}
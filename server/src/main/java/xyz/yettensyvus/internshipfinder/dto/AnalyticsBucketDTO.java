@@ -0,0 +1,16 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AnalyticsBucketDTO {
+    private Date bucketStart;
+    private String dimension;
+    private long count;
+}
@@ -0,0 +1,21 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import xyz.yettensyvus.internshipfinder.enums.AuditAction;
+
+import java.time.Instant;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class AuditEventDTO {
+    private Long id;
+    private Instant occurredAt;
+    private String actorEmail;
+    private AuditAction action;
+    private String targetType;
+    private Long targetId;
+    private String details;
+}
@@ -13,4 +13,5 @@ public class AuthResponse {
     private String role;
     private String name;
     private String avatar;
+    private String avatarThumbnail;
 }
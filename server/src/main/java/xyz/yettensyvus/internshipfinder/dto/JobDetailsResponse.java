@@ -26,4 +26,5 @@ public class JobDetailsResponse {
     private String recruiterCompanyName;
     private String recruiterEmail;
     private String recruiterProfilePictureUrl;
+    private String recruiterProfilePictureThumbnailUrl;
 }
@@ -0,0 +1,18 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class JobImportResultDTO {
+    private long received;
+    private long imported;
+    private long failed;
+    private boolean errorsTruncated;
+    private List<JobImportErrorDTO> errors;
+}
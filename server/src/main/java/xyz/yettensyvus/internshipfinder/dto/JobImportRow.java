@@ -0,0 +1,42 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class JobImportRow {
+    @NotBlank(message = "Title is required")
+    @Size(min = 3, max = 255, message = "Title must be between 3 and 255 characters")
+    private String title;
+
+    @NotBlank(message = "Company is required")
+    @Size(min = 2, max = 255, message = "Company must be between 2 and 255 characters")
+    private String company;
+
+    @Size(max = 255, message = "Location is too long")
+    private String location;
+
+    @NotBlank(message = "Description is required")
+    @Size(min = 20, message = "Description is too short")
+    @Size(max = 5000, message = "Description is too long")
+    private String description;
+
+    @Size(max = 255, message = "Deadline is too long")
+    private String deadline;
+
+    @Size(max = 255, message = "Type is too long")
+    private String type;
+
+    private Boolean paid;
+
+    @Size(max = 255, message = "Duration is too long")
+    private String duration;
+
+    @Size(max = 255, message = "Compensation is too long")
+    private String compensation;
+}
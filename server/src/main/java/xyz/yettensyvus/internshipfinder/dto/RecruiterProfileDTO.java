@@ -23,5 +23,6 @@ public class RecruiterProfileDTO {
     @Size(min = 4, message = "Company website is too short")
     private String companyWebsite;
     private String profilePictureUrl;
+    private String profilePictureThumbnailUrl;
 
 }
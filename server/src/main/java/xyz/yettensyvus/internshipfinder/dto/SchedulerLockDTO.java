@@ -0,0 +1,18 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class SchedulerLockDTO {
+    private String name;
+    private String lockedBy;
+    private Instant lockedAt;
+    private Instant lockUntil;
+    private boolean held;
+}
@@ -0,0 +1,18 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import xyz.yettensyvus.internshipfinder.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class StudentApplicationDTO {
+    private Long id;
+    private Status status;
+    private Date appliedAt;
+    private JobDetailsResponse job;
+}
@@ -29,5 +29,6 @@ public class StudentProfileDTO {
     private String yearOfPassing;
     private String resumeUrl;
     private String profilePictureUrl;
+    private String profilePictureThumbnailUrl;
 
 }
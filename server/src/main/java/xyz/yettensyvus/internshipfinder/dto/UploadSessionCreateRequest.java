@@ -0,0 +1,21 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import xyz.yettensyvus.internshipfinder.enums.UploadPurpose;
+
+@Data
+public class UploadSessionCreateRequest {
+    @NotBlank(message = "File name is required")
+    private String fileName;
+
+    private String contentType;
+
+    @NotNull(message = "Total size is required")
+    @Positive(message = "Total size must be positive")
+    private Long totalSize;
+
+    private UploadPurpose purpose;
+}
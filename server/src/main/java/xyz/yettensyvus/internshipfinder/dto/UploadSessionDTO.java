@@ -0,0 +1,23 @@
+package xyz.yettensyvus.internshipfinder.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import xyz.yettensyvus.internshipfinder.enums.UploadPurpose;
+
+import java.time.Instant;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class UploadSessionDTO {
+    private String id;
+    private String fileName;
+    private UploadPurpose purpose;
+    private long totalSize;
+    private long uploadedBytes;
+    private long chunkSize;
+    private Instant expiresAt;
+    private boolean completed;
+    private String url;
+}
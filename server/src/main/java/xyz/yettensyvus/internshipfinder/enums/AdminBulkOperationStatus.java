@@ -0,0 +1,9 @@
+package xyz.yettensyvus.internshipfinder.enums;
+
+public enum AdminBulkOperationStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    COMPLETED_WITH_ERRORS,
+    FAILED
+}
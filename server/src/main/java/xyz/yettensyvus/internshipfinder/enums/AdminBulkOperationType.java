@@ -0,0 +1,8 @@
+package xyz.yettensyvus.internshipfinder.enums;
+
+public enum AdminBulkOperationType {
+    USER_STATUS,
+    USER_DELETE,
+    RECRUITER_PURGE,
+    JOB_STATUS
+}
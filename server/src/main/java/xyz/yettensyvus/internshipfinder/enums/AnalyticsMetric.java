@@ -0,0 +1,8 @@
+package xyz.yettensyvus.internshipfinder.enums;
+
+public enum AnalyticsMetric {
+    APPLICATIONS_SUBMITTED,
+    APPLICATION_STATUS_CHANGES,
+    JOBS_POSTED,
+    USERS_REGISTERED
+}
@@ -0,0 +1,13 @@
+package xyz.yettensyvus.internshipfinder.enums;
+
+public enum AuditAction {
+    USER_ENABLED,
+    USER_DISABLED,
+    USER_ROLE_CHANGED,
+    USER_UPDATED,
+    USER_DELETED,
+    USER_PURGE_SCHEDULED,
+    JOB_ACTIVATED,
+    JOB_DEACTIVATED,
+    BULK_OPERATION_SUBMITTED
+}
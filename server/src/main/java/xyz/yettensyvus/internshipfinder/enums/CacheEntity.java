@@ -0,0 +1,7 @@
+package xyz.yettensyvus.internshipfinder.enums;
+
+public enum CacheEntity {
+    USER,
+    RECRUITER,
+    JOB
+}
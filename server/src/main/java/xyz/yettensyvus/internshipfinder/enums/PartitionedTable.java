@@ -0,0 +1,27 @@
+package xyz.yettensyvus.internshipfinder.enums;
+
+/**
+ * Tables range-partitioned by month (see the V1 and V8 migrations). Partitions are named {@code <table>_YYYY_MM};
+ * months of a {@code timestamptz} key are UTC months, those of a plain {@code timestamp} key are taken as stored.
+ */
+public enum PartitionedTable {
+    APPLICATIONS("applications", false),
+    NOTIFICATIONS("notifications", true),
+    ADMIN_AUDIT_LOG("admin_audit_log", true);
+
+    private final String tableName;
+    private final boolean timeZoned;
+
+    PartitionedTable(String tableName, boolean timeZoned) {
+        this.tableName = tableName;
+        this.timeZoned = timeZoned;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public boolean isTimeZoned() {
+        return timeZoned;
+    }
+}
@@ -0,0 +1,6 @@
+package xyz.yettensyvus.internshipfinder.enums;
+
+public enum RollupGranularity {
+    HOUR,
+    DAY
+}
@@ -0,0 +1,5 @@
+package xyz.yettensyvus.internshipfinder.enums;
+
+public enum UploadPurpose {
+    RESUME
+}
@@ -0,0 +1,47 @@
+package xyz.yettensyvus.internshipfinder.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "admin_bulk_operation_chunks", indexes = {
+        @Index(name = "idx_admin_bulk_chunk_operation", columnList = "operation_id, chunk_index")
+})
+public class AdminBulkChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "admin_bulk_operation_chunks_seq")
+    @SequenceGenerator(name = "admin_bulk_operation_chunks_seq", sequenceName = "admin_bulk_operation_chunks_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "operation_id", nullable = false, length = 36)
+    private String operationId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    @Column(name = "first_id", nullable = false)
+    private long firstId;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(nullable = false)
+    private int requested;
+
+    @Column(nullable = false)
+    private int affected;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "processed_at", nullable = false)
+    private Instant processedAt;
+}
@@ -0,0 +1,42 @@
+package xyz.yettensyvus.internshipfinder.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import xyz.yettensyvus.internshipfinder.enums.AnalyticsMetric;
+import xyz.yettensyvus.internshipfinder.enums.RollupGranularity;
+
+import java.util.Date;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "analytics_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_analytics_rollup_bucket", columnNames = {"metric", "granularity", "bucket_start", "dimension"})
+})
+public class AnalyticsRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private AnalyticsMetric metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "bucket_start", nullable = false)
+    private Date bucketStart;
+
+    @Column(nullable = false, length = 40)
+    private String dimension;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+}
@@ -0,0 +1,31 @@
+package xyz.yettensyvus.internshipfinder.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Date;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "analytics_watermarks")
+public class AnalyticsWatermark {
+
+    @Id
+    @Column(length = 40)
+    private String stream;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "last_at", nullable = false)
+    private Date lastAt;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
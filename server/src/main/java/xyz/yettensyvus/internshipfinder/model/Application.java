@@ -12,18 +12,22 @@ import java.util.Date;
 @AllArgsConstructor
 @Data
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        @Index(name = "idx_applications_job", columnList = "job_id"),
+        @Index(name = "idx_applications_student_job", columnList = "student_id, job_id")
+})
 public class Application {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_seq")
+    @SequenceGenerator(name = "applications_seq", sequenceName = "applications_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "job_id", nullable = false)
     private Job job;
 
@@ -31,7 +35,7 @@ public class Application {
     private Status status = Status.APPLIED;
 
     @Temporal(TemporalType.TIMESTAMP)
-    @Column(name = "applied_at")
-    private Date appliedAt;
+    @Column(name = "applied_at", nullable = false)
+    private Date appliedAt = new Date();
 
 }
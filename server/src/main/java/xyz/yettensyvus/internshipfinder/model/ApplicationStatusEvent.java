@@ -0,0 +1,37 @@
+package xyz.yettensyvus.internshipfinder.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import xyz.yettensyvus.internshipfinder.enums.Status;
+
+import java.util.Date;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "application_status_events")
+public class ApplicationStatusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_status_events_seq")
+    @SequenceGenerator(name = "application_status_events_seq", sequenceName = "application_status_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private Status fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private Status toStatus;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "occurred_at", nullable = false)
+    private Date occurredAt;
+}
@@ -19,7 +19,8 @@ import java.time.Instant;
 public class OtpToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "otp_tokens_seq")
+    @SequenceGenerator(name = "otp_tokens_seq", sequenceName = "otp_tokens_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -0,0 +1,10 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import xyz.yettensyvus.internshipfinder.model.AdminBulkChunk;
+
+import java.util.List;
+
+public interface AdminBulkChunkRepository extends JpaRepository<AdminBulkChunk, Long> {
+    List<AdminBulkChunk> findByOperationIdOrderByChunkIndex(String operationId);
+}
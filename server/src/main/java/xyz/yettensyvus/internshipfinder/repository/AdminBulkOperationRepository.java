@@ -0,0 +1,32 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.yettensyvus.internshipfinder.enums.AdminBulkOperationStatus;
+import xyz.yettensyvus.internshipfinder.model.AdminBulkOperation;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface AdminBulkOperationRepository extends JpaRepository<AdminBulkOperation, String> {
+
+    @Modifying
+    @Transactional
+    @Query("update AdminBulkOperation o set o.heartbeatAt = :now where o.id in :ids")
+    int touch(@Param("ids") Collection<String> ids, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("update AdminBulkOperation o set o.status = :failed, o.error = :error, o.finishedAt = :now " +
+            "where o.status in :active and o.heartbeatAt < :staleBefore")
+    int failStale(
+            @Param("active") Collection<AdminBulkOperationStatus> active,
+            @Param("failed") AdminBulkOperationStatus failed,
+            @Param("error") String error,
+            @Param("staleBefore") Instant staleBefore,
+            @Param("now") Instant now
+    );
+}
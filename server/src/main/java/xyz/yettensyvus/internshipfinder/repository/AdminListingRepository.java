@@ -0,0 +1,223 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.yettensyvus.internshipfinder.dto.*;
+import xyz.yettensyvus.internshipfinder.enums.Role;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@Transactional(readOnly = true)
+public class AdminListingRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Value("${app.admin.listing.count-estimate-threshold:100000}")
+    private long countEstimateThreshold;
+
+    public AdminPageDTO<AdminUserListItemDTO> findUsers(Role role, Boolean enabled, String emailPrefix, Pageable pageable) {
+        Filter f = userFilter(role, enabled, emailPrefix);
+
+        String select = "select new xyz.yettensyvus.internshipfinder.dto.AdminUserListItemDTO(u.id, u.username, u.email, u.role, u.enabled)";
+        String from = " from User u";
+        Map<String, String> sortable = Map.of("id", "u.id", "email", "u.email", "username", "u.username", "role", "u.role");
+        return page(AdminUserListItemDTO.class, select, from, "u.id", f, pageable, sortable, "users");
+    }
+
+    public AdminPageDTO<AdminStudentListItemDTO> findStudents(Boolean enabled, String emailPrefix, Pageable pageable) {
+        Filter f = new Filter();
+        f.add("u.enabled = :enabled", "enabled", enabled);
+        f.addPrefix("lower(u.email) like :emailPrefix", "emailPrefix", emailPrefix);
+
+        String select = "select new xyz.yettensyvus.internshipfinder.dto.AdminStudentListItemDTO(" +
+                "s.id, u.id, s.name, u.email, s.college, s.branch, s.yearOfPassing, u.enabled)";
+        String from = " from Student s join s.user u";
+        Map<String, String> sortable = Map.of("id", "s.id", "name", "s.name", "email", "u.email");
+        return page(AdminStudentListItemDTO.class, select, from, "s.id", f, pageable, sortable, "students");
+    }
+
+    public AdminPageDTO<AdminRecruiterListItemDTO> findRecruiters(Boolean enabled, String emailPrefix, String company, Pageable pageable) {
+        Filter f = new Filter();
+        f.add("u.enabled = :enabled", "enabled", enabled);
+        f.addPrefix("lower(u.email) like :emailPrefix", "emailPrefix", emailPrefix);
+        f.addPrefix("lower(r.companyName) like :company", "company", company);
+
+        String select = "select new xyz.yettensyvus.internshipfinder.dto.AdminRecruiterListItemDTO(" +
+                "r.id, u.email, r.companyName, r.companyWebsite, u.enabled)";
+        String from = " from Recruiter r join r.user u";
+        Map<String, String> sortable = Map.of("id", "r.id", "companyName", "r.companyName", "email", "u.email");
+        return page(AdminRecruiterListItemDTO.class, select, from, "r.id", f, pageable, sortable, "recruiters");
+    }
+
+    public AdminPageDTO<AdminJobListItemDTO> findJobs(Boolean active, String company, Long recruiterId, Pageable pageable) {
+        Filter f = jobFilter(active, company, recruiterId);
+
+        String select = "select new xyz.yettensyvus.internshipfinder.dto.AdminJobListItemDTO(" +
+                "j.id, j.title, j.company, j.location, j.type, j.paid, j.isActive, j.createdAt, r.id, u.email)";
+        String from = " from Job j left join j.recruiter r left join r.user u";
+        Map<String, String> sortable = Map.of("id", "j.id", "createdAt", "j.createdAt", "title", "j.title", "company", "j.company");
+        return page(AdminJobListItemDTO.class, select, from, "j.id", f, pageable, sortable, "jobs");
+    }
+
+    public List<Long> findUserIdsAfter(Role role, Boolean enabled, String emailPrefix, long afterId, int limit) {
+        return idsAfter("u.id", " from User u", userFilter(role, enabled, emailPrefix), afterId, limit);
+    }
+
+    public long countUsers(Role role, Boolean enabled, String emailPrefix) {
+        return count("u.id", " from User u", userFilter(role, enabled, emailPrefix));
+    }
+
+    public List<Long> findJobIdsAfter(Boolean active, String company, Long recruiterId, long afterId, int limit) {
+        return idsAfter("j.id", " from Job j left join j.recruiter r", jobFilter(active, company, recruiterId), afterId, limit);
+    }
+
+    public long countJobs(Boolean active, String company, Long recruiterId) {
+        return count("j.id", " from Job j left join j.recruiter r", jobFilter(active, company, recruiterId));
+    }
+
+    private Filter userFilter(Role role, Boolean enabled, String emailPrefix) {
+        Filter f = new Filter();
+        f.add("u.role = :role", "role", role);
+        f.add("u.enabled = :enabled", "enabled", enabled);
+        f.addPrefix("lower(u.email) like :emailPrefix", "emailPrefix", emailPrefix);
+        return f;
+    }
+
+    private Filter jobFilter(Boolean active, String company, Long recruiterId) {
+        Filter f = new Filter();
+        f.add("j.isActive = :active", "active", active);
+        f.addPrefix("lower(j.company) like :company", "company", company);
+        f.add("r.id = :recruiterId", "recruiterId", recruiterId);
+        return f;
+    }
+
+    private List<Long> idsAfter(String idPath, String from, Filter filter, long afterId, int limit) {
+        filter.add(idPath + " > :afterId", "afterId", afterId);
+        TypedQuery<Long> query = em.createQuery("select " + idPath + from + filter.where() + " order by " + idPath, Long.class);
+        filter.bind(query);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    private long count(String idPath, String from, Filter filter) {
+        TypedQuery<Long> query = em.createQuery("select count(" + idPath + ")" + from + filter.where(), Long.class);
+        filter.bind(query);
+        return query.getSingleResult();
+    }
+
+    private <T> AdminPageDTO<T> page(
+            Class<T> type,
+            String select,
+            String from,
+            String idPath,
+            Filter filter,
+            Pageable pageable,
+            Map<String, String> sortable,
+            String table
+    ) {
+        String where = filter.where();
+
+        TypedQuery<T> query = em.createQuery(select + from + where + orderBy(pageable.getSort(), sortable, idPath), type);
+        filter.bind(query);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<T> rows = query.getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> items = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        long total;
+        boolean estimated = false;
+        long tableEstimate = estimateRows(table);
+        if (tableEstimate < countEstimateThreshold) {
+            TypedQuery<Long> count = em.createQuery("select count(" + idPath + ")" + from + where, Long.class);
+            filter.bind(count);
+            total = count.getSingleResult();
+        } else if (filter.isEmpty()) {
+            total = tableEstimate;
+            estimated = true;
+        } else {
+            TypedQuery<Long> count = em.createQuery(
+                    "select count(*) from (select " + idPath + " as id" + from + where +
+                            " limit " + (countEstimateThreshold + 1) + ") t",
+                    Long.class);
+            filter.bind(count);
+            total = count.getSingleResult();
+            estimated = total > countEstimateThreshold;
+        }
+
+        return new AdminPageDTO<>(items, pageable.getPageNumber(), pageable.getPageSize(),
+                Math.max(total, pageable.getOffset() + items.size()), estimated, hasNext);
+    }
+
+    private long estimateRows(String table) {
+        Optional<?> result = em.createNativeQuery("select cast(reltuples as bigint) from pg_class where relname = :table")
+                .setParameter("table", table)
+                .getResultStream()
+                .findFirst();
+        return result.map(r -> Math.max(0, ((Number) r).longValue())).orElse(0L);
+    }
+
+    private String orderBy(Sort sort, Map<String, String> sortable, String idPath) {
+        StringBuilder sb = new StringBuilder();
+        for (Sort.Order order : sort) {
+            String path = sortable.get(order.getProperty());
+            if (path == null) {
+                continue;
+            }
+            sb.append(sb.length() == 0 ? " order by " : ", ")
+                    .append(path)
+                    .append(order.isAscending() ? " asc" : " desc");
+        }
+        sb.append(sb.length() == 0 ? " order by " : ", ").append(idPath).append(" asc");
+        return sb.toString();
+    }
+
+    private static class Filter {
+        private final StringBuilder clauses = new StringBuilder();
+        private final Map<String, Object> params = new LinkedHashMap<>();
+
+        void add(String clause, String name, Object value) {
+            if (value == null) {
+                return;
+            }
+            clauses.append(clauses.length() == 0 ? " where " : " and ").append(clause);
+            params.put(name, value);
+        }
+
+        void addPrefix(String clause, String name, String value) {
+            if (value == null || value.isBlank()) {
+                return;
+            }
+            String escaped = value.trim().toLowerCase(Locale.ROOT)
+                    .replace("!", "!!")
+                    .replace("%", "!%")
+                    .replace("_", "!_");
+            add(clause + " escape '!'", name, escaped + "%");
+        }
+
+        boolean isEmpty() {
+            return params.isEmpty();
+        }
+
+        String where() {
+            return clauses.toString();
+        }
+
+        void bind(jakarta.persistence.Query query) {
+            params.forEach(query::setParameter);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import xyz.yettensyvus.internshipfinder.enums.AnalyticsMetric;
+import xyz.yettensyvus.internshipfinder.enums.RollupGranularity;
+import xyz.yettensyvus.internshipfinder.model.AnalyticsRollup;
+
+import java.util.Date;
+import java.util.List;
+
+public interface AnalyticsRollupRepository extends JpaRepository<AnalyticsRollup, Long> {
+
+    String UPSERT = "insert into analytics_rollups (metric, granularity, bucket_start, dimension, event_count) ";
+    // Declares the only table the native upserts write, so Hibernate does not treat them as touching every cached
+    // entity and query region.
+    String ROLLUP_SPACE = "analytics_rollups";
+
+    String MERGE = " group by 3, 4 on conflict (metric, granularity, bucket_start, dimension) " +
+            "do update set event_count = analytics_rollups.event_count + excluded.event_count";
+
+    @Query("select r from AnalyticsRollup r where r.metric = :metric and r.granularity = :granularity " +
+            "and r.bucketStart >= :from and r.bucketStart < :to order by r.bucketStart, r.dimension")
+    List<AnalyticsRollup> findRange(
+            @Param("metric") AnalyticsMetric metric,
+            @Param("granularity") RollupGranularity granularity,
+            @Param("from") Date from,
+            @Param("to") Date to
+    );
+
+    // Keyset boundaries: the (timestamp, id) of the last row in the next batch of settled rows, or null if none.
+    String BOUNDARY = " order by 1, 2 limit :batchSize) t order by at desc, id desc limit 1";
+
+    // applications is partitioned by applied_at; the planner cannot prune on a row comparison, so the application
+    // queries repeat the bounds as plain range predicates.
+    @Query(value = "select at as \"at\", id as \"id\" from (select applied_at as at, id from applications " +
+            "where (applied_at, id) > (:afterAt, :afterId) and applied_at >= :afterAt and applied_at < :cutoff" + BOUNDARY, nativeQuery = true)
+    Boundary applicationBoundary(@Param("afterAt") Date afterAt, @Param("afterId") long afterId,
+                                 @Param("cutoff") Date cutoff, @Param("batchSize") long batchSize);
+
+    @Query(value = "select at as \"at\", id as \"id\" from (select occurred_at as at, id from application_status_events " +
+            "where (occurred_at, id) > (:afterAt, :afterId) and occurred_at < :cutoff" + BOUNDARY, nativeQuery = true)
+    Boundary statusEventBoundary(@Param("afterAt") Date afterAt, @Param("afterId") long afterId,
+                                 @Param("cutoff") Date cutoff, @Param("batchSize") long batchSize);
+
+    @Query(value = "select at as \"at\", id as \"id\" from (select created_at as at, id from jobs " +
+            "where (created_at, id) > (:afterAt, :afterId) and created_at < :cutoff" + BOUNDARY, nativeQuery = true)
+    Boundary jobBoundary(@Param("afterAt") Date afterAt, @Param("afterId") long afterId,
+                         @Param("cutoff") Date cutoff, @Param("batchSize") long batchSize);
+
+    @Query(value = "select at as \"at\", id as \"id\" from (select created_at as at, id from users " +
+            "where (created_at, id) > (:afterAt, :afterId) and created_at < :cutoff" + BOUNDARY, nativeQuery = true)
+    Boundary userBoundary(@Param("afterAt") Date afterAt, @Param("afterId") long afterId,
+                          @Param("cutoff") Date cutoff, @Param("batchSize") long batchSize);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ROLLUP_SPACE))
+    @Query(value = UPSERT +
+            "select 'APPLICATIONS_SUBMITTED', cast(:granularity as varchar), date_trunc(cast(:unit as text), applied_at), '', count(*) " +
+            "from applications where (applied_at, id) > (:afterAt, :afterId) and (applied_at, id) <= (:upToAt, :upToId) " +
+            "and applied_at between :afterAt and :upToAt" + MERGE,
+            nativeQuery = true)
+    int rollUpApplications(@Param("granularity") String granularity, @Param("unit") String unit,
+                           @Param("afterAt") Date afterAt, @Param("afterId") long afterId,
+                           @Param("upToAt") Date upToAt, @Param("upToId") long upToId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ROLLUP_SPACE))
+    @Query(value = UPSERT +
+            "select 'APPLICATION_STATUS_CHANGES', cast(:granularity as varchar), date_trunc(cast(:unit as text), occurred_at), to_status, count(*) " +
+            "from application_status_events where (occurred_at, id) > (:afterAt, :afterId) and (occurred_at, id) <= (:upToAt, :upToId)" + MERGE,
+            nativeQuery = true)
+    int rollUpStatusChanges(@Param("granularity") String granularity, @Param("unit") String unit,
+                            @Param("afterAt") Date afterAt, @Param("afterId") long afterId,
+                            @Param("upToAt") Date upToAt, @Param("upToId") long upToId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ROLLUP_SPACE))
+    @Query(value = UPSERT +
+            "select 'JOBS_POSTED', cast(:granularity as varchar), date_trunc(cast(:unit as text), created_at), '', count(*) " +
+            "from jobs where (created_at, id) > (:afterAt, :afterId) and (created_at, id) <= (:upToAt, :upToId)" + MERGE,
+            nativeQuery = true)
+    int rollUpJobs(@Param("granularity") String granularity, @Param("unit") String unit,
+                   @Param("afterAt") Date afterAt, @Param("afterId") long afterId,
+                   @Param("upToAt") Date upToAt, @Param("upToId") long upToId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = ROLLUP_SPACE))
+    @Query(value = UPSERT +
+            "select 'USERS_REGISTERED', cast(:granularity as varchar), date_trunc(cast(:unit as text), created_at), role, count(*) " +
+            "from users where (created_at, id) > (:afterAt, :afterId) and (created_at, id) <= (:upToAt, :upToId)" + MERGE,
+            nativeQuery = true)
+    int rollUpUsers(@Param("granularity") String granularity, @Param("unit") String unit,
+                    @Param("afterAt") Date afterAt, @Param("afterId") long afterId,
+                    @Param("upToAt") Date upToAt, @Param("upToId") long upToId);
+
+    interface Boundary {
+        Date getAt();
+        Long getId();
+    }
+}
@@ -0,0 +1,32 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import xyz.yettensyvus.internshipfinder.model.AnalyticsWatermark;
+
+import java.time.Instant;
+import java.util.Date;
+
+public interface AnalyticsWatermarkRepository extends JpaRepository<AnalyticsWatermark, String> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "analytics_watermarks"))
+    @Query(value = "insert into analytics_watermarks (stream, last_at, last_id) values (:stream, timestamp '1970-01-01', 0) " +
+            "on conflict (stream) do nothing", nativeQuery = true)
+    int ensureExists(@Param("stream") String stream);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from AnalyticsWatermark w where w.stream = :stream")
+    AnalyticsWatermark lock(@Param("stream") String stream);
+
+    @Modifying
+    @Query("update AnalyticsWatermark w set w.lastAt = :lastAt, w.lastId = :lastId, w.updatedAt = :now where w.stream = :stream")
+    int advance(@Param("stream") String stream, @Param("lastAt") Date lastAt, @Param("lastId") long lastId, @Param("now") Instant now);
+}
@@ -3,20 +3,88 @@ package xyz.yettensyvus.internshipfinder.repository;
 import xyz.yettensyvus.internshipfinder.model.Application;
 import xyz.yettensyvus.internshipfinder.model.Job;
 import xyz.yettensyvus.internshipfinder.model.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
+    @EntityGraph(attributePaths = {"student", "student.user", "job", "job.recruiter", "job.recruiter.user"})
     List<Application> findByStudent(Student student);
+
+    @EntityGraph(attributePaths = {"student", "student.user", "job", "job.recruiter", "job.recruiter.user"})
+    List<Application> findByStudentId(Long studentId);
+
+    @EntityGraph(attributePaths = {"student", "student.user", "job"})
     List<Application> findByJob(Job job);
+
+    @EntityGraph(attributePaths = {"student", "student.user", "job", "job.recruiter", "job.recruiter.user"})
+    Optional<Application> findDetailedById(Long id);
+
     boolean existsByStudentAndJob(Student student, Job job);
+
+    /**
+     * Resolves the student behind {@code email} and claims the (student, job) key for a new application id unless
+     * the pair is already taken, returning what the caller needs to report the outcome, all in one statement. A
+     * missing student or job yields null ids; an existing application yields a null {@code applicationId}. A
+     * concurrent claim of the same pair waits for the other transaction and then yields null as well.
+     */
+    @Query(value = "with s as (" +
+            "select st.id, st.name from students st join users u on u.id = st.user_id where u.email = :email" +
+            "), j as (" +
+            "select id, title, recruiter_id from jobs where id = :jobId" +
+            "), k as (" +
+            "insert into application_keys (application_id, student_id, job_id, applied_at) " +
+            "select nextval('applications_seq'), s.id, j.id, localtimestamp from s, j " +
+            "on conflict (student_id, job_id) do nothing " +
+            "returning application_id" +
+            ") " +
+            "select (select id from s) as \"studentId\", (select name from s) as \"studentName\", " +
+            "j.id as \"jobId\", j.title as \"jobTitle\", j.recruiter_id as \"recruiterId\", (select application_id from k) as \"applicationId\" " +
+            "from (select 1) one left join j on true",
+            nativeQuery = true)
+    ApplyResult claimApplication(@Param("email") String email, @Param("jobId") Long jobId);
+
+    /**
+     * Inserts the application for a key claimed by {@link #claimApplication}; the insert trigger sees the claim and
+     * lets the row through.
+     */
     @Modifying
-    @Transactional
-    void deleteByStudent(Student student);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "applications"))
+    @Query(value = "insert into applications (id, student_id, job_id, status, applied_at) " +
+            "select application_id, student_id, job_id, 'APPLIED', applied_at from application_keys where application_id = :id",
+            nativeQuery = true)
+    int insertClaimed(@Param("id") Long applicationId);
+
+    interface ApplyResult {
+        Long getStudentId();
+        String getStudentName();
+        Long getJobId();
+        String getJobTitle();
+        Long getRecruiterId();
+        Long getApplicationId();
+    }
+
+    @Modifying
+    @Query("delete from Application a where a.student.id in (select s.id from Student s where s.user.id in :userIds)")
+    int deleteByStudentUserIds(@Param("userIds") Collection<Long> userIds);
+
     @Modifying
-    @Transactional
-    void deleteByJob(Job job);
+    @Query("delete from Application a where a.job.id in (select j.id from Job j where j.recruiter.id in :recruiterIds)")
+    int deleteByRecruiterIds(@Param("recruiterIds") Collection<Long> recruiterIds);
+
+    @Modifying
+    @Query("delete from Application a where a.job.id in :jobIds")
+    int deleteByJobIds(@Param("jobIds") Collection<Long> jobIds);
+
+    @Query("select count(a) from Application a where a.job.recruiter.id = :recruiterId")
+    long countByRecruiterId(@Param("recruiterId") Long recruiterId);
 }
@@ -0,0 +1,7 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import xyz.yettensyvus.internshipfinder.model.ApplicationStatusEvent;
+
+public interface ApplicationStatusEventRepository extends JpaRepository<ApplicationStatusEvent, Long> {
+}
@@ -0,0 +1,84 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import xyz.yettensyvus.internshipfinder.dto.AuditEventDTO;
+import xyz.yettensyvus.internshipfinder.enums.AuditAction;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC access to the append-only audit table. The table is range-partitioned by month on occurred_at (see the
+ * baseline migration) and is not mapped as an entity; rows are only ever inserted and read. Partitions are
+ * created ahead of time, and dropped after retention, by the partition maintenance job.
+ */
+@Repository
+public class AuditLogRepository {
+
+    private static final String INSERT_SQL = "insert into admin_audit_log " +
+            "(occurred_at, actor_email, action, target_type, target_id, details) values (?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void insertBatch(List<AuditEventDTO> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, e) -> {
+            ps.setTimestamp(1, Timestamp.from(e.getOccurredAt()));
+            ps.setString(2, e.getActorEmail());
+            ps.setString(3, e.getAction().name());
+            ps.setString(4, e.getTargetType());
+            ps.setObject(5, e.getTargetId());
+            ps.setString(6, e.getDetails());
+        });
+    }
+
+    public List<AuditEventDTO> find(
+            Instant from,
+            Instant to,
+            String actorEmail,
+            AuditAction action,
+            String targetType,
+            Long targetId,
+            long offset,
+            int limit
+    ) {
+        StringBuilder sql = new StringBuilder("select id, occurred_at, actor_email, action, target_type, target_id, details " +
+                "from admin_audit_log where occurred_at >= ? and occurred_at < ?");
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.from(from));
+        args.add(Timestamp.from(to));
+        if (actorEmail != null && !actorEmail.isBlank()) {
+            sql.append(" and actor_email = ?");
+            args.add(actorEmail.trim().toLowerCase());
+        }
+        if (action != null) {
+            sql.append(" and action = ?");
+            args.add(action.name());
+        }
+        if (targetType != null && !targetType.isBlank()) {
+            sql.append(" and target_type = ?");
+            args.add(targetType.trim().toUpperCase());
+        }
+        if (targetId != null) {
+            sql.append(" and target_id = ?");
+            args.add(targetId);
+        }
+        sql.append(" order by occurred_at desc, id desc limit ? offset ?");
+        args.add(limit);
+        args.add(offset);
+
+        return jdbcTemplate.query(sql.toString(), (rs, i) -> new AuditEventDTO(
+                rs.getLong("id"),
+                rs.getTimestamp("occurred_at").toInstant(),
+                rs.getString("actor_email"),
+                AuditAction.valueOf(rs.getString("action")),
+                rs.getString("target_type"),
+                rs.getObject("target_id", Long.class),
+                rs.getString("details")
+        ), args.toArray());
+    }
+}
@@ -0,0 +1,36 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.yettensyvus.internshipfinder.model.BlobDeletion;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface BlobDeletionRepository extends JpaRepository<BlobDeletion, Long> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "blob_deletion_queue"))
+    @Query(value = "insert into blob_deletion_queue (object_name, enqueued_at, next_attempt_at, attempts) " +
+            "values (:objectName, :now, :now, 0) on conflict (object_name) do nothing", nativeQuery = true)
+    int enqueue(@Param("objectName") String objectName, @Param("now") Instant now);
+
+    @Query(value = "select * from blob_deletion_queue where next_attempt_at <= :now " +
+            "order by next_attempt_at limit :limit for update skip locked", nativeQuery = true)
+    List<BlobDeletion> lockDue(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Query(value = "select * from blob_deletion_queue where id in :ids for update", nativeQuery = true)
+    List<BlobDeletion> lockByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("delete from BlobDeletion d where d.objectName = :objectName")
+    int cancel(@Param("objectName") String objectName);
+}
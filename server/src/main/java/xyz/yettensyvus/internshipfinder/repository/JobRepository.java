@@ -2,12 +2,49 @@ package xyz.yettensyvus.internshipfinder.repository;
 
 import xyz.yettensyvus.internshipfinder.model.Job;
 import xyz.yettensyvus.internshipfinder.model.Recruiter;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface JobRepository extends JpaRepository<Job, Long> {
+    @EntityGraph(attributePaths = {"recruiter", "recruiter.user"})
     List<Job> findByIsActiveTrue();
+
+    @EntityGraph(attributePaths = {"recruiter", "recruiter.user"})
     List<Job> findByIsActiveTrueAndPaid(boolean paid);
+
+    @EntityGraph(attributePaths = {"recruiter", "recruiter.user"})
     List<Job> findByRecruiter(Recruiter recruiter);
+
+    @EntityGraph(attributePaths = {"recruiter", "recruiter.user"})
+    List<Job> findByRecruiterId(Long recruiterId);
+
+    @EntityGraph(attributePaths = {"recruiter", "recruiter.user"})
+    Optional<Job> findWithRecruiterById(Long id);
+
+    @Modifying
+    @Query("update Job j set j.isActive = :active where j.id in :ids")
+    int updateActive(@Param("ids") Collection<Long> ids, @Param("active") boolean active);
+
+    @Modifying
+    @Query("delete from Job j where j.recruiter.id in :recruiterIds")
+    int deleteByRecruiterIds(@Param("recruiterIds") Collection<Long> recruiterIds);
+
+    @Modifying
+    @Query("delete from Job j where j.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("update Job j set j.isActive = false where j.recruiter.id = :recruiterId")
+    int deactivateByRecruiterId(@Param("recruiterId") Long recruiterId);
+
+    long countByRecruiterId(Long recruiterId);
 }
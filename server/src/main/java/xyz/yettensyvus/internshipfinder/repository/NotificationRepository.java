@@ -4,9 +4,12 @@ import xyz.yettensyvus.internshipfinder.model.Notification;
 import xyz.yettensyvus.internshipfinder.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
@@ -16,4 +19,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Modifying
     @Transactional
     void deleteByUser(User user);
+
+    @Modifying
+    @Query("delete from Notification n where n.user.id in :userIds")
+    int deleteByUserIds(@Param("userIds") Collection<Long> userIds);
 }
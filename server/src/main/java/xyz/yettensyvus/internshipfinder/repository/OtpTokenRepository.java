@@ -9,6 +9,7 @@ import xyz.yettensyvus.internshipfinder.model.OtpToken;
 import xyz.yettensyvus.internshipfinder.model.User;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Optional;
 
 public interface OtpTokenRepository extends JpaRepository<OtpToken, Long> {
@@ -20,4 +21,8 @@ public interface OtpTokenRepository extends JpaRepository<OtpToken, Long> {
     @Modifying
     @Query("delete from OtpToken t where t.expiresAt < :now or t.consumedAt is not null")
     int deleteExpiredOrConsumed(@Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from OtpToken t where t.user.id in :userIds")
+    int deleteByUserIds(@Param("userIds") Collection<Long> userIds);
 }
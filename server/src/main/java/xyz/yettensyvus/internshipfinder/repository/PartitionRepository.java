@@ -0,0 +1,80 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import xyz.yettensyvus.internshipfinder.enums.PartitionedTable;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC access to the monthly partitions of the tables in {@link PartitionedTable}.
+ */
+@Repository
+public class PartitionRepository {
+
+    private static final Pattern MONTH_SUFFIX = Pattern.compile("_(\\d{4})_(\\d{2})$");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void ensurePartition(PartitionedTable table, YearMonth month) {
+        jdbcTemplate.execute("create table if not exists " + partitionName(table, month) + " partition of " +
+                table.getTableName() + " for values from (" + bound(table, month) + ") to (" +
+                bound(table, month.plusMonths(1)) + ")");
+    }
+
+    /**
+     * The current month by the database clock, in the terms of the table's partition key: the UTC month for a
+     * {@code timestamptz} key, otherwise the month of {@code localtimestamp}, which is what the apply path stores.
+     */
+    public YearMonth currentMonth(PartitionedTable table) {
+        String now = table.isTimeZoned() ? "now() at time zone 'UTC'" : "localtimestamp";
+        Timestamp current = jdbcTemplate.queryForObject("select " + now, Timestamp.class);
+        return YearMonth.from(current.toLocalDateTime());
+    }
+
+    public List<YearMonth> findPartitionMonths(PartitionedTable table) {
+        List<String> names = jdbcTemplate.queryForList("select c.relname from pg_inherits i " +
+                "join pg_class c on c.oid = i.inhrelid join pg_class p on p.oid = i.inhparent " +
+                "where p.relname = ? order by c.relname", String.class, table.getTableName());
+
+        List<YearMonth> months = new ArrayList<>();
+        for (String name : names) {
+            Matcher m = MONTH_SUFFIX.matcher(name);
+            if (m.find()) {
+                months.add(YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2))));
+            }
+        }
+        return months;
+    }
+
+    public void dropPartition(PartitionedTable table, YearMonth month) {
+        jdbcTemplate.execute("drop table if exists " + partitionName(table, month));
+    }
+
+    /**
+     * Releases the student/job keys of applications in months that are about to be dropped; dropping a partition
+     * does not fire the delete trigger that normally does this.
+     */
+    public int deleteApplicationKeysBefore(YearMonth month) {
+        return jdbcTemplate.update("delete from application_keys where applied_at < ?",
+                Timestamp.valueOf(month.atDay(1).atStartOfDay()));
+    }
+
+    private String partitionName(PartitionedTable table, YearMonth month) {
+        return String.format("%s_%04d_%02d", table.getTableName(), month.getYear(), month.getMonthValue());
+    }
+
+    private String bound(PartitionedTable table, YearMonth month) {
+        return table.isTimeZoned()
+                ? "'" + month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC) + "'"
+                : "'" + month.atDay(1).atStartOfDay() + "'";
+    }
+}
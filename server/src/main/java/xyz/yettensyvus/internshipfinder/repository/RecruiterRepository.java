@@ -1,9 +1,25 @@
 package xyz.yettensyvus.internshipfinder.repository;
 
 import xyz.yettensyvus.internshipfinder.model.Recruiter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 
 public interface RecruiterRepository extends JpaRepository<Recruiter, Long> {
     Recruiter findByUserId(Long userId);
+
+    @EntityGraph(attributePaths = "user")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Recruiter findByUserEmail(String email);
+
+    @Modifying
+    @Query("delete from Recruiter r where r.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
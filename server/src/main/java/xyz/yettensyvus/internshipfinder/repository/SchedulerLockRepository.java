@@ -0,0 +1,63 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import xyz.yettensyvus.internshipfinder.dto.SchedulerLockDTO;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * JDBC access to the scheduler lease table. All times come from the database clock so instances with skewed
+ * clocks still agree on whether a lease has expired. Every statement runs on its own when called outside a
+ * transaction, which is how the lock service calls it.
+ */
+@Repository
+public class SchedulerLockRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes the lease if nobody holds it or the previous holder's lease ran out.
+     */
+    public boolean tryAcquire(String name, String lockedBy, Duration lease) {
+        return jdbcTemplate.update("insert into scheduler_locks (name, lock_until, locked_at, locked_by) " +
+                "values (?, clock_timestamp() + ? * interval '1 millisecond', clock_timestamp(), ?) " +
+                "on conflict (name) do update set lock_until = excluded.lock_until, " +
+                "locked_at = excluded.locked_at, locked_by = excluded.locked_by " +
+                "where scheduler_locks.lock_until <= clock_timestamp()",
+                name, lease.toMillis(), lockedBy) == 1;
+    }
+
+    /**
+     * Pushes the lease out by another {@code lease}; false if it has meanwhile been taken over.
+     */
+    public boolean extend(String name, String lockedBy, Duration lease) {
+        return jdbcTemplate.update("update scheduler_locks set lock_until = clock_timestamp() + ? * interval '1 millisecond' " +
+                "where name = ? and locked_by = ?", lease.toMillis(), name, lockedBy) == 1;
+    }
+
+    /**
+     * Ends the lease, but not before {@code holdAtLeast} after it was taken, so an instance whose clock fires the
+     * same cron tick slightly later does not run it a second time.
+     */
+    public void release(String name, String lockedBy, Duration holdAtLeast) {
+        jdbcTemplate.update("update scheduler_locks " +
+                "set lock_until = greatest(clock_timestamp(), locked_at + ? * interval '1 millisecond') " +
+                "where name = ? and locked_by = ?", holdAtLeast.toMillis(), name, lockedBy);
+    }
+
+    public List<SchedulerLockDTO> findAll() {
+        return jdbcTemplate.query("select name, locked_by, locked_at, lock_until, lock_until > clock_timestamp() as held " +
+                        "from scheduler_locks order by name",
+                (rs, i) -> new SchedulerLockDTO(
+                        rs.getString("name"),
+                        rs.getString("locked_by"),
+                        rs.getTimestamp("locked_at").toInstant(),
+                        rs.getTimestamp("lock_until").toInstant(),
+                        rs.getBoolean("held")
+                ));
+    }
+}
@@ -0,0 +1,59 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.yettensyvus.internshipfinder.model.StoredFile;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    Optional<StoredFile> findByContentHash(String contentHash);
+
+    boolean existsByContentHash(String contentHash);
+
+    boolean existsByBlobName(String blobName);
+
+    @Query("select f.blobName from StoredFile f where f.blobName in :blobNames")
+    List<String> findExistingBlobNames(@Param("blobNames") Collection<String> blobNames);
+
+    @Modifying
+    @Transactional
+    @Query("update StoredFile f set f.refCount = f.refCount + 1 where f.contentHash = :hash")
+    int incrementRefCount(@Param("hash") String contentHash);
+
+    /**
+     * Registers a newly stored blob, or counts one more reference when the content is already known, and returns
+     * the blob name the content is stored under. A single statement, so a concurrent upload of the same content
+     * cannot abort the caller's transaction with a unique violation.
+     */
+    @Transactional
+    @Query(value = "insert into stored_files (content_hash, blob_name, size_bytes, content_type, ref_count, created_at) " +
+            "values (:hash, :blobName, :size, :contentType, 1, :now) " +
+            "on conflict (content_hash) do update set ref_count = stored_files.ref_count + 1 " +
+            "returning blob_name", nativeQuery = true)
+    String insertOrIncrement(@Param("hash") String contentHash, @Param("blobName") String blobName,
+                             @Param("size") long sizeBytes, @Param("contentType") String contentType,
+                             @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("update StoredFile f set f.refCount = f.refCount + 1 where f.blobName = :blobName")
+    int incrementRefCountByBlobName(@Param("blobName") String blobName);
+
+    @Modifying
+    @Transactional
+    @Query("update StoredFile f set f.refCount = f.refCount - 1 where f.blobName = :blobName and f.refCount > 0")
+    int decrementRefCount(@Param("blobName") String blobName);
+
+    @Modifying
+    @Transactional
+    @Query("delete from StoredFile f where f.blobName = :blobName and f.refCount <= 0")
+    int deleteUnreferenced(@Param("blobName") String blobName);
+}
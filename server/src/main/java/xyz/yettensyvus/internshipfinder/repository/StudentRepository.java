@@ -1,11 +1,29 @@
 package xyz.yettensyvus.internshipfinder.repository;
 
 import xyz.yettensyvus.internshipfinder.model.Student;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
     Student findByUserId(Long userId);
+
+    @EntityGraph(attributePaths = "user")
     Optional<Student> findByUserEmail(String email);
+
+    @Query("select s.resumeUrl from Student s where s.resumeUrl in :urls")
+    List<String> findReferencedResumeUrls(@Param("urls") Collection<String> urls);
+
+    @Query("select s.resumeUrl from Student s where s.user.id in :userIds and s.resumeUrl is not null")
+    List<String> findResumeUrlsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("delete from Student s where s.user.id in :userIds")
+    int deleteByUserIds(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,28 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.yettensyvus.internshipfinder.model.UploadSession;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+
+    List<UploadSession> findTop100ByExpiresAtBefore(Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("update UploadSession s set s.uploadedBytes = :uploadedBytes, s.hashState = :hashState " +
+            "where s.id = :id and s.uploadedBytes = :expectedOffset")
+    int advance(@Param("id") String id, @Param("expectedOffset") long expectedOffset,
+                @Param("uploadedBytes") long uploadedBytes, @Param("hashState") byte[] hashState);
+
+    @Modifying
+    @Transactional
+    @Query("delete from UploadSession s where s.id = :id")
+    int deleteCompleted(@Param("id") String id);
+}
@@ -2,13 +2,67 @@ package xyz.yettensyvus.internshipfinder.repository;
 
 import xyz.yettensyvus.internshipfinder.model.User;
 import xyz.yettensyvus.internshipfinder.enums.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     List<User> findByRole(Role role);
+
+    @Query("select u.id as userId, u.email as email, u.role as role, s.id as studentId, r.id as recruiterId " +
+            "from User u left join Student s on s.user = u left join Recruiter r on r.user = u " +
+            "where u.email = :email")
+    Optional<PrincipalRow> findPrincipalByEmail(@Param("email") String email);
+
+    interface PrincipalRow {
+        Long getUserId();
+        String getEmail();
+        Role getRole();
+        Long getStudentId();
+        Long getRecruiterId();
+    }
+
+    @Query("select u.profilePictureUrl from User u where u.profilePictureUrl in :urls")
+    List<String> findReferencedProfilePictureUrls(@Param("urls") Collection<String> urls);
+
+    @Query("select u.profilePictureThumbnailUrl from User u where u.profilePictureThumbnailUrl in :urls")
+    List<String> findReferencedProfilePictureThumbnailUrls(@Param("urls") Collection<String> urls);
+
+    @Modifying
+    @Transactional
+    @Query("update User u set u.profilePictureThumbnailUrl = :thumbnailUrl where u.profilePictureUrl = :originalUrl")
+    int updateProfilePictureThumbnailUrl(@Param("originalUrl") String originalUrl, @Param("thumbnailUrl") String thumbnailUrl);
+
+    @Query("select count(u) > 0 from User u where u.id <> :userId " +
+            "and (u.profilePictureUrl = :url or u.profilePictureThumbnailUrl = :url)")
+    boolean isProfilePictureUsedByOthers(@Param("url") String url, @Param("userId") Long userId);
+
+    @Query("select u.id from User u where u.profilePictureUrl = :url")
+    List<Long> findIdsByProfilePictureUrl(@Param("url") String url);
+
+    @Query("select u.profilePictureUrl from User u where u.id in :ids and u.profilePictureUrl is not null")
+    List<String> findProfilePictureUrlsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select u.profilePictureThumbnailUrl from User u where u.id in :ids and u.profilePictureThumbnailUrl is not null")
+    List<String> findProfilePictureThumbnailUrlsByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update User u set u.enabled = :enabled where u.id in :ids")
+    int updateEnabled(@Param("ids") Collection<Long> ids, @Param("enabled") boolean enabled);
+
+    @Modifying
+    @Query("delete from User u where u.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,87 @@
+package xyz.yettensyvus.internshipfinder.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import xyz.yettensyvus.internshipfinder.dto.AdminUserSearchResultDTO;
+import xyz.yettensyvus.internshipfinder.enums.Role;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Typeahead lookup over email, username, student name and recruiter company. Each field has a
+ * text_pattern_ops btree for prefix matches (which also covers one- and two-character input) and a trigram
+ * GIN index so queries of three or more characters also match inside the value. Every branch is limited
+ * before the union, so the cost tracks the limit, not the table.
+ */
+@Repository
+public class UserSearchRepository {
+
+    private static final int MIN_INFIX_LENGTH = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public List<AdminUserSearchResultDTO> search(String query, int limit) {
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        String escaped = term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        String prefix = escaped + "%";
+        String infix = "%" + escaped + "%";
+
+        // Prefix branches walk the btree in order, so they always contribute the best prefix hits. Infix branches
+        // come from a bitmap scan, where sorting would force reading every match, so they just take the first hits
+        // on top; the outer query ranks email/username prefix hits first, other prefix hits next, infix-only last.
+        List<Object> args = new ArrayList<>();
+        StringBuilder candidates = new StringBuilder()
+                .append(branch("select id as user_id from users", "lower(email)", true)).append(" union ")
+                .append(branch("select id from users", "lower(username)", true)).append(" union ")
+                .append(branch("select user_id from students", "lower(name)", true)).append(" union ")
+                .append(branch("select id from recruiters", "lower(company_name)", true));
+        for (int i = 0; i < 4; i++) {
+            args.add(prefix);
+            args.add(limit);
+        }
+        if (term.length() >= MIN_INFIX_LENGTH) {
+            candidates.append(" union ").append(branch("select id from users", "lower(email)", false))
+                    .append(" union ").append(branch("select id from users", "lower(username)", false))
+                    .append(" union ").append(branch("select user_id from students", "lower(name)", false))
+                    .append(" union ").append(branch("select id from recruiters", "lower(company_name)", false));
+            for (int i = 0; i < 4; i++) {
+                args.add(infix);
+                args.add(limit);
+            }
+        }
+
+        String sql = "with candidates as (" + candidates + ") " +
+                "select u.id, u.username, u.email, u.role, u.enabled, s.name as student_name, r.company_name " +
+                "from candidates c " +
+                "join users u on u.id = c.user_id " +
+                "left join students s on s.user_id = u.id " +
+                "left join recruiters r on r.id = u.id " +
+                "order by case " +
+                "when lower(u.email) like ? escape '!' or lower(u.username) like ? escape '!' then 0 " +
+                "when lower(s.name) like ? escape '!' or lower(r.company_name) like ? escape '!' then 1 " +
+                "else 2 end, lower(u.email) " +
+                "limit ?";
+        for (int i = 0; i < 4; i++) {
+            args.add(prefix);
+        }
+        args.add(limit);
+
+        return jdbcTemplate.query(sql, (rs, i) -> new AdminUserSearchResultDTO(
+                rs.getLong("id"),
+                rs.getString("username"),
+                rs.getString("email"),
+                Role.valueOf(rs.getString("role")),
+                rs.getBoolean("enabled"),
+                rs.getString("student_name"),
+                rs.getString("company_name")
+        ), args.toArray());
+    }
+
+    private static String branch(String select, String column, boolean ordered) {
+        return "(" + select + " where " + column + " like ? escape '!'" + (ordered ? " order by " + column : "") + " limit ?)";
+    }
+}
@@ -6,23 +6,25 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final PrincipalContextResolver principalResolver;
 
     public JwtAuthenticationFilter(JwtTokenProvider jwtProvider,
-                                   CustomUserDetailsService userDetailsService) {
+                                   PrincipalContextResolver principalResolver) {
         this.jwtProvider = jwtProvider;
-        this.userDetailsService = userDetailsService;
+        this.principalResolver = principalResolver;
     }
 
     @Override
@@ -46,13 +48,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (jwtProvider.validateToken(token)) {
                 try {
                     String email = jwtProvider.getEmailFromToken(token);
-                    if (email != null && !email.isBlank()) {
-                        var userDetails = userDetailsService.loadUserByUsername(email);
+                    PrincipalContext principal = principalResolver.resolve(email).orElse(null);
+                    if (principal != null) {
                         UsernamePasswordAuthenticationToken authToken =
                                 new UsernamePasswordAuthenticationToken(
-                                        userDetails,
+                                        principal,
                                         null,
-                                        userDetails.getAuthorities()
+                                        List.of(new SimpleGrantedAuthority("ROLE_" + principal.role().name()))
                                 );
 
                         authToken.setDetails(
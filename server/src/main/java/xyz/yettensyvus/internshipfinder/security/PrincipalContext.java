@@ -0,0 +1,18 @@
+package xyz.yettensyvus.internshipfinder.security;
+
+import xyz.yettensyvus.internshipfinder.enums.Role;
+
+import java.security.Principal;
+
+/**
+ * Who is calling, resolved once per request by {@link JwtAuthenticationFilter}. {@code studentId} and
+ * {@code recruiterId} are null unless the user has that profile.
+ */
+public record PrincipalContext(Long userId, String email, Role role, Long studentId, Long recruiterId)
+        implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,121 @@
+package xyz.yettensyvus.internshipfinder.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import xyz.yettensyvus.internshipfinder.enums.CacheEntity;
+import xyz.yettensyvus.internshipfinder.repository.UserRepository;
+import xyz.yettensyvus.internshipfinder.service.CacheInvalidationBus;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resolves an email to the caller's user, student and recruiter ids with a single query, and keeps the result in a
+ * bounded Caffeine cache so authenticated requests normally cost no lookup and take no shared lock. Entries expire after a short TTL;
+ * anything that changes a user's email, role or profiles evicts them explicitly via {@link #evictUsers}, which also
+ * tells the other instances through the {@link CacheInvalidationBus}.
+ */
+@Component
+public class PrincipalContextResolver {
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Value("${app.security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${app.security.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private Cache<String, PrincipalContext> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        cacheInvalidationBus.subscribe(CacheEntity.USER, this::evictRemote);
+        cacheInvalidationBus.subscribe(CacheEntity.RECRUITER, this::evictRemote);
+    }
+
+    /**
+     * The context of the current request. Falls back to a lookup by name when the authentication was not created
+     * by the JWT filter.
+     */
+    public PrincipalContext current() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) {
+            throw new RuntimeException("Not authenticated");
+        }
+        if (auth.getPrincipal() instanceof PrincipalContext context) {
+            return context;
+        }
+        return require(auth.getName());
+    }
+
+    public PrincipalContext require(String email) {
+        return resolve(email).orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    public Optional<PrincipalContext> resolve(String email) {
+        if (email == null || email.isBlank()) {
+            return Optional.empty();
+        }
+
+        // An unknown email loads as null, which Caffeine does not cache
+        return Optional.ofNullable(cache.get(email, key -> userRepo.findPrincipalByEmail(key)
+                .map(row -> new PrincipalContext(row.getUserId(), row.getEmail(), row.getRole(),
+                        row.getStudentId(), row.getRecruiterId()))
+                .orElse(null)));
+    }
+
+    /**
+     * Drops cached contexts for the given users now and, when called inside a transaction, again after it commits
+     * so a concurrent request cannot re-cache the pre-commit state.
+     */
+    public void evictUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Set<Long> ids = new HashSet<>(userIds);
+        evict(ids);
+        cacheInvalidationBus.publish(CacheEntity.USER, ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(ids);
+                }
+            });
+        }
+    }
+
+    // Recruiter ids are user ids (shared primary key), so both event types map onto userId
+    private void evictRemote(Set<Long> userIds) {
+        if (userIds.isEmpty()) {
+            cache.invalidateAll();
+            return;
+        }
+        evict(userIds);
+    }
+
+    private void evict(Set<Long> userIds) {
+        cache.asMap().values().removeIf(context -> userIds.contains(context.userId()));
+    }
+}
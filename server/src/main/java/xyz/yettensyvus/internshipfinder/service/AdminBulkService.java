@@ -0,0 +1,18 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import xyz.yettensyvus.internshipfinder.dto.AdminBulkJobRequest;
+import xyz.yettensyvus.internshipfinder.dto.AdminBulkOperationDTO;
+import xyz.yettensyvus.internshipfinder.dto.AdminBulkUserRequest;
+
+public interface AdminBulkService {
+
+    AdminBulkOperationDTO submitUserStatus(String requesterEmail, AdminBulkUserRequest req);
+
+    AdminBulkOperationDTO submitUserDelete(String requesterEmail, AdminBulkUserRequest req);
+
+    AdminBulkOperationDTO submitJobStatus(String requesterEmail, AdminBulkJobRequest req);
+
+    AdminBulkOperationDTO submitRecruiterPurge(String requesterEmail, Long recruiterId);
+
+    AdminBulkOperationDTO getOperation(String id);
+}
@@ -0,0 +1,13 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import xyz.yettensyvus.internshipfinder.enums.DataFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface AdminExportService {
+
+    boolean isExportable(String dataset);
+
+    void export(String dataset, DataFormat format, OutputStream out) throws IOException;
+}
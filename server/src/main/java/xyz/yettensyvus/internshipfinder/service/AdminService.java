@@ -1,30 +1,28 @@
 package xyz.yettensyvus.internshipfinder.service;
 
 
-import xyz.yettensyvus.internshipfinder.dto.AdminProfileDTO;
-import xyz.yettensyvus.internshipfinder.dto.AdminUserDetailsDTO;
-import xyz.yettensyvus.internshipfinder.dto.AdminUserUpdateRequest;
-import xyz.yettensyvus.internshipfinder.model.Job;
-import xyz.yettensyvus.internshipfinder.model.Recruiter;
-import xyz.yettensyvus.internshipfinder.model.Student;
-import xyz.yettensyvus.internshipfinder.model.User;
+import org.springframework.data.domain.Pageable;
+import xyz.yettensyvus.internshipfinder.dto.*;
+import xyz.yettensyvus.internshipfinder.enums.Role;
 
 import java.util.List;
 import java.util.Map;
 
 public interface AdminService {
 
-    List<Student> getAllStudents();
+    AdminPageDTO<AdminStudentListItemDTO> listStudents(Boolean enabled, String emailPrefix, Pageable pageable);
 
-    List<Recruiter> getAllRecruiters();
+    AdminPageDTO<AdminRecruiterListItemDTO> listRecruiters(Boolean enabled, String emailPrefix, String company, Pageable pageable);
 
     void toggleUserBlock(Long id);
 
     void setUserEnabled(Long id, boolean enabled);
 
-    List<User> getAllUsers();
+    AdminPageDTO<AdminUserListItemDTO> listUsers(Role role, Boolean enabled, String emailPrefix, Pageable pageable);
 
-    void deleteUser(Long id);
+    List<AdminUserSearchResultDTO> searchUsers(String query, int limit);
+
+    AdminBulkOperationDTO deleteUser(Long id, String requesterEmail);
 
     AdminUserDetailsDTO getUserDetails(Long id);
 
@@ -32,7 +30,7 @@ public interface AdminService {
 
     AdminUserDetailsDTO updateUserDetails(Long id, AdminUserUpdateRequest req, String requesterEmail);
 
-    List<Job> getAllJobs();
+    AdminPageDTO<AdminJobListItemDTO> listJobs(Boolean active, String company, Long recruiterId, Pageable pageable);
 
     void toggleJobStatus(Long jobId);
 
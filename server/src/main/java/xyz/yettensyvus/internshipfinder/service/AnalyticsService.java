@@ -0,0 +1,13 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import xyz.yettensyvus.internshipfinder.dto.AnalyticsBucketDTO;
+import xyz.yettensyvus.internshipfinder.enums.AnalyticsMetric;
+import xyz.yettensyvus.internshipfinder.enums.RollupGranularity;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface AnalyticsService {
+
+    List<AnalyticsBucketDTO> getRollups(AnalyticsMetric metric, RollupGranularity granularity, Instant from, Instant to);
+}
@@ -1,18 +1,18 @@
 package xyz.yettensyvus.internshipfinder.service;
 
+import xyz.yettensyvus.internshipfinder.dto.RecruiterApplicationDTO;
+import xyz.yettensyvus.internshipfinder.dto.StudentApplicationDTO;
 import xyz.yettensyvus.internshipfinder.enums.Status;
 
-import xyz.yettensyvus.internshipfinder.model.Application;
-
 import java.util.List;
 
 public interface ApplicationService {
 
     String applyToJobByEmail(String email, Long jobId);
 
-    List<Application> getApplicationsByEmail(String email);
+    List<StudentApplicationDTO> getApplicationsByEmail(String email);
 
-    List<Application> getApplicationsByJobForRecruiter(String recruiterEmail, Long jobId);
+    List<RecruiterApplicationDTO> getApplicationsByJobForRecruiter(String recruiterEmail, Long jobId);
 
-    Application updateApplicationStatusForRecruiter(String recruiterEmail, Long applicationId, Status status);
+    RecruiterApplicationDTO updateApplicationStatusForRecruiter(String recruiterEmail, Long applicationId, Status status);
 }
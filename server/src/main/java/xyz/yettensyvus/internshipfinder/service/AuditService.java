@@ -0,0 +1,23 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import org.springframework.data.domain.Pageable;
+import xyz.yettensyvus.internshipfinder.dto.AdminPageDTO;
+import xyz.yettensyvus.internshipfinder.dto.AuditEventDTO;
+import xyz.yettensyvus.internshipfinder.enums.AuditAction;
+
+import java.time.Instant;
+
+public interface AuditService {
+
+    void record(AuditAction action, String targetType, Long targetId, String details);
+
+    AdminPageDTO<AuditEventDTO> search(
+            Instant from,
+            Instant to,
+            String actorEmail,
+            AuditAction action,
+            String targetType,
+            Long targetId,
+            Pageable pageable
+    );
+}
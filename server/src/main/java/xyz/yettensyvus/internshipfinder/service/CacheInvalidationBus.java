@@ -0,0 +1,29 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import xyz.yettensyvus.internshipfinder.enums.CacheEntity;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Tells the other instances that cached rows changed. Events published inside a transaction are only delivered if
+ * it commits. An empty id set means "every row of this type". The publishing node never receives its own events and
+ * is expected to have evicted locally already.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheEntity entity, Collection<Long> ids);
+
+    /**
+     * Publishes on the given connection; for callers that already hold the transaction's connection (Hibernate
+     * event listeners) and must not go through Spring's resource binding.
+     */
+    void publish(Connection connection, CacheEntity entity, Collection<Long> ids) throws SQLException;
+
+    void subscribe(CacheEntity entity, Consumer<Set<Long>> handler);
+
+    boolean isListening();
+}
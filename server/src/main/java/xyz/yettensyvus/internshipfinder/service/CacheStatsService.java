@@ -0,0 +1,12 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import xyz.yettensyvus.internshipfinder.dto.CacheRegionStatsDTO;
+
+import java.util.List;
+
+public interface CacheStatsService {
+
+    List<CacheRegionStatsDTO> getRegionStats();
+
+    void resetStats();
+}
@@ -0,0 +1,19 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import xyz.yettensyvus.internshipfinder.dto.UploadSessionCreateRequest;
+import xyz.yettensyvus.internshipfinder.dto.UploadSessionDTO;
+
+import java.io.InputStream;
+
+public interface ChunkedUploadService {
+
+    UploadSessionDTO createSession(String email, UploadSessionCreateRequest req);
+
+    UploadSessionDTO getSession(String email, String sessionId);
+
+    UploadSessionDTO uploadChunk(String email, String sessionId, long offset, long length, InputStream content);
+
+    UploadSessionDTO complete(String email, String sessionId);
+
+    void abort(String email, String sessionId);
+}
@@ -0,0 +1,24 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import xyz.yettensyvus.internshipfinder.enums.Role;
+
+import java.util.Map;
+
+public interface DashboardStatsService {
+
+    Map<String, Object> getStats();
+
+    void userCreated(Role role);
+
+    void studentProfileAdded();
+
+    void recruiterProfileAdded();
+
+    void recordDeletion(long users, long students, long recruiters, long jobs, long applications);
+
+    void jobsPosted(long count);
+
+    void applicationSubmitted();
+
+    void reconcile();
+}
@@ -0,0 +1,10 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import xyz.yettensyvus.internshipfinder.dto.DataSourcePoolStatsDTO;
+
+import java.util.List;
+
+public interface DataSourceStatsService {
+
+    List<DataSourcePoolStatsDTO> getPoolStats();
+}
@@ -2,13 +2,29 @@ package xyz.yettensyvus.internshipfinder.service;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 public interface FileUploadService {
 
     String uploadFile(MultipartFile file, String folder);
 
+    String uploadBytes(byte[] content, String blobName, String contentType);
+
+    <T> T uploadDeduplicated(MultipartFile file, Function<String, T> attach);
+
+    <T> T storeDeduplicated(String contentHash, long size, String fileName, String contentType,
+                            Consumer<String> writer, Function<String, T> attach);
+
+    void retainFile(String storedUrlOrBlobName);
+
+    void releaseFile(String storedUrlOrBlobName);
+
     String toReadSasUrl(String storedUrlOrBlobName);
 
     String toStableBlobUrl(String storedUrlOrBlobName);
 
     void deleteFileIfExists(String storedUrlOrBlobName);
+
+    void scheduleDeletion(String storedUrlOrBlobName);
 }
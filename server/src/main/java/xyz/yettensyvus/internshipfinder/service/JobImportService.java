@@ -0,0 +1,12 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import xyz.yettensyvus.internshipfinder.dto.JobImportResultDTO;
+import xyz.yettensyvus.internshipfinder.enums.DataFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface JobImportService {
+
+    JobImportResultDTO importJobs(String recruiterEmail, DataFormat format, InputStream in) throws IOException;
+}
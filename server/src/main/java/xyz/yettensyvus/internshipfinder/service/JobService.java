@@ -9,13 +9,15 @@ import xyz.yettensyvus.internshipfinder.model.Job;
 
 public interface JobService {
 
-    Job postJob(Job job, String email);
+    JobDetailsResponse postJob(Job job, String email);
+
+    List<JobDetailsResponse> getActiveJobs(Boolean paid);
+
+    JobDetailsResponse getJobDetails(Long jobId);
 
     List<JobDetailsResponse> getJobsByRecruiterAsDetails(String email);
 
     JobDetailsResponse getRecruiterJobDetails(String recruiterEmail, Long jobId);
 
     JobDetailsResponse updateRecruiterJob(String recruiterEmail, Long jobId, RecruiterJobUpdateRequest req);
-
-    List<Job> getJobsByRecruiter(String email);
 }
@@ -0,0 +1,14 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import xyz.yettensyvus.internshipfinder.model.User;
+
+public interface ProfilePictureThumbnailService {
+
+    void replaceProfilePicture(Long userId, String pictureUrl);
+
+    void releaseProfilePicture(Long userId, String pictureUrl, String thumbnailUrl);
+
+    void generateAsync(String originalUrl);
+
+    String toThumbnailReadSasUrl(User user);
+}
@@ -0,0 +1,24 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import xyz.yettensyvus.internshipfinder.dto.SchedulerLockDTO;
+
+import java.util.List;
+
+public interface SchedulerLockService {
+
+    /**
+     * Runs {@code task} if this instance can take the named lease, renewing it while the task runs. Returns false
+     * without running anything when another instance holds it, and also when the task was stopped by
+     * {@link #ensureLeaseHeld()} after the lease was lost.
+     */
+    boolean runLocked(String name, Runnable task);
+
+    /**
+     * Throws if the lease of the job running on this thread was taken over, or could not be renewed before it ran
+     * out. Jobs call this between batches, so an instance that lost its lease stops instead of running alongside
+     * the new holder. Does nothing outside {@link #runLocked}.
+     */
+    void ensureLeaseHeld();
+
+    List<SchedulerLockDTO> getLocks();
+}
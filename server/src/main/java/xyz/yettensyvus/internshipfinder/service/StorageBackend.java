@@ -0,0 +1,31 @@
+package xyz.yettensyvus.internshipfinder.service;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+public interface StorageBackend {
+
+    String upload(String objectName, InputStream content, long length, String contentType);
+
+    InputStream openRead(String objectName);
+
+    String toStableUrl(String objectName);
+
+    String toSignedReadUrl(String objectName);
+
+    void deleteIfExists(String objectName);
+
+    List<String> deleteBatch(List<String> objectNames);
+
+    void stageChunk(String objectName, String uploadId, int index, long offset, InputStream content, long length);
+
+    String commitChunks(String objectName, String uploadId, int chunkCount, String contentType, String targetObjectName);
+
+    void abortChunks(String objectName, String uploadId);
+
+    void forEachObject(BiConsumer<String, Instant> visitor);
+
+    String extractObjectName(String storedUrlOrObjectName);
+}
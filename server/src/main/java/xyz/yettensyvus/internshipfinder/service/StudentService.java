@@ -16,5 +16,7 @@ public interface StudentService {
 
     String uploadResumeForLoggedInUser(MultipartFile file) throws IOException;
 
+    String attachResumeForLoggedInUser(String storedUrl);
+
     String uploadProfilePictureForLoggedInUser(MultipartFile file) throws IOException;
 }
@@ -0,0 +1,380 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import xyz.yettensyvus.internshipfinder.dto.*;
+import xyz.yettensyvus.internshipfinder.enums.AdminBulkOperationStatus;
+import xyz.yettensyvus.internshipfinder.enums.AdminBulkOperationType;
+import xyz.yettensyvus.internshipfinder.enums.AuditAction;
+import xyz.yettensyvus.internshipfinder.enums.CacheEntity;
+import xyz.yettensyvus.internshipfinder.model.AdminBulkChunk;
+import xyz.yettensyvus.internshipfinder.model.AdminBulkOperation;
+import xyz.yettensyvus.internshipfinder.model.User;
+import xyz.yettensyvus.internshipfinder.repository.*;
+import xyz.yettensyvus.internshipfinder.service.AdminBulkService;
+import xyz.yettensyvus.internshipfinder.service.AuditService;
+import xyz.yettensyvus.internshipfinder.service.CacheInvalidationBus;
+import xyz.yettensyvus.internshipfinder.service.SchedulerLockService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+@Service
+public class AdminBulkServiceImpl implements AdminBulkService {
+
+    private static final int MAX_IDS = 100_000;
+
+    @Autowired private AdminBulkOperationRepository operationRepo;
+    @Autowired private AdminBulkChunkRepository chunkRepo;
+    @Autowired private AdminListingRepository adminListingRepo;
+    @Autowired private UserRepository userRepo;
+    @Autowired private JobRepository jobRepo;
+    @Autowired private UserCascadeDeleter userCascadeDeleter;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private AuditService auditService;
+    @Autowired private CacheInvalidationBus cacheInvalidationBus;
+    @Autowired private SchedulerLockService schedulerLockService;
+
+    @Value("${app.admin.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.admin.delete.purge-chunk-size:50}")
+    private int purgeChunkSize;
+
+    @Value("${app.admin.bulk.queue-capacity:10}")
+    private int queueCapacity;
+
+    @Value("${app.admin.bulk.stale-after-minutes:10}")
+    private long staleAfterMinutes;
+
+    private ThreadPoolExecutor executor;
+
+    // Operations queued or running on this instance; only these get their heartbeat refreshed.
+    private final Set<String> localOperations = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "admin-bulk-worker");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${app.admin.bulk.heartbeat-interval-ms:60000}")
+    public void heartbeat() {
+        if (!localOperations.isEmpty()) {
+            operationRepo.touch(List.copyOf(localOperations), Instant.now());
+        }
+    }
+
+    /**
+     * The queue lives in memory, so operations of an instance that crashed or restarted can never resume; once
+     * their heartbeat is stale they are marked failed so clients stop polling and can resubmit.
+     */
+    @Scheduled(fixedDelayString = "${app.admin.bulk.recovery-interval-ms:60000}")
+    public void failAbandoned() {
+        schedulerLockService.runLocked("admin-bulk-recovery", () -> {
+            Instant now = Instant.now();
+            int failed = operationRepo.failStale(
+                    List.of(AdminBulkOperationStatus.QUEUED, AdminBulkOperationStatus.RUNNING),
+                    AdminBulkOperationStatus.FAILED,
+                    "Interrupted by a server restart; resubmit to retry",
+                    now.minus(Duration.ofMinutes(staleAfterMinutes)),
+                    now
+            );
+            if (failed > 0) {
+                System.out.println("Marked " + failed + " abandoned bulk operations as failed");
+            }
+        });
+    }
+
+    @Override
+    public AdminBulkOperationDTO submitUserStatus(String requesterEmail, AdminBulkUserRequest req) {
+        if (req.getEnabled() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "enabled is required");
+        }
+        boolean enabled = req.getEnabled();
+        return submitUsers(AdminBulkOperationType.USER_STATUS, requesterEmail, req, ids -> {
+            int updated = userRepo.updateEnabled(ids, enabled);
+            cacheInvalidationBus.publish(CacheEntity.USER, ids);
+            return updated;
+        });
+    }
+
+    @Override
+    public AdminBulkOperationDTO submitUserDelete(String requesterEmail, AdminBulkUserRequest req) {
+        return submitUsers(AdminBulkOperationType.USER_DELETE, requesterEmail, req, userCascadeDeleter::deleteUsers);
+    }
+
+    @Override
+    public AdminBulkOperationDTO submitJobStatus(String requesterEmail, AdminBulkJobRequest req) {
+        if (req.getActive() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "active is required");
+        }
+        boolean active = req.getActive();
+
+        IdSource source;
+        if (req.getIds() != null && !req.getIds().isEmpty()) {
+            requireNoFilter(req.getFilter() != null);
+            source = fixedIds(req.getIds(), Set.of());
+        } else {
+            AdminJobFilter f = req.getFilter();
+            if (f == null || (f.getActive() == null && isBlank(f.getCompany()) && f.getRecruiterId() == null)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids or a non-empty filter is required");
+            }
+            long total = adminListingRepo.countJobs(f.getActive(), f.getCompany(), f.getRecruiterId());
+            source = new IdSource(total, afterId -> adminListingRepo.findJobIdsAfter(
+                    f.getActive(), f.getCompany(), f.getRecruiterId(), afterId, chunkSize), Set.of());
+        }
+
+        return submit(AdminBulkOperationType.JOB_STATUS, requesterEmail, source, ids -> {
+            int updated = jobRepo.updateActive(ids, active);
+            cacheInvalidationBus.publish(CacheEntity.JOB, ids);
+            return updated;
+        }, null);
+    }
+
+    @Override
+    public AdminBulkOperationDTO submitRecruiterPurge(String requesterEmail, Long recruiterId) {
+        // Jobs go first in small chunks (each chunk also removes their applications), then the now
+        // lightweight account is removed with the regular cascade as the final step.
+        long total = jobRepo.countByRecruiterId(recruiterId);
+        IdSource source = new IdSource(total + 1, afterId -> adminListingRepo.findJobIdsAfter(
+                null, null, recruiterId, afterId, purgeChunkSize), Set.of());
+        return submit(AdminBulkOperationType.RECRUITER_PURGE, requesterEmail, source, userCascadeDeleter::deleteJobs,
+                new FinalStep(recruiterId, () -> userCascadeDeleter.deleteUsers(List.of(recruiterId))));
+    }
+
+    @Override
+    public AdminBulkOperationDTO getOperation(String id) {
+        AdminBulkOperation op = operationRepo.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Bulk operation not found"));
+        return toDto(op, chunkRepo.findByOperationIdOrderByChunkIndex(id));
+    }
+
+    private AdminBulkOperationDTO submitUsers(
+            AdminBulkOperationType type,
+            String requesterEmail,
+            AdminBulkUserRequest req,
+            Function<List<Long>, Integer> action
+    ) {
+        // Admins never bulk-modify their own account, matching the self-protection on the single-user endpoints.
+        Set<Long> excluded = userRepo.findByEmail(requesterEmail).map(User::getId).map(Set::of).orElse(Set.of());
+
+        IdSource source;
+        if (req.getIds() != null && !req.getIds().isEmpty()) {
+            requireNoFilter(req.getFilter() != null);
+            source = fixedIds(req.getIds(), excluded);
+        } else {
+            AdminUserFilter f = req.getFilter();
+            if (f == null || (f.getRole() == null && f.getEnabled() == null && isBlank(f.getEmail()))) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ids or a non-empty filter is required");
+            }
+            long total = adminListingRepo.countUsers(f.getRole(), f.getEnabled(), f.getEmail());
+            source = new IdSource(total, afterId -> adminListingRepo.findUserIdsAfter(
+                    f.getRole(), f.getEnabled(), f.getEmail(), afterId, chunkSize), excluded);
+        }
+
+        return submit(type, requesterEmail, source, action, null);
+    }
+
+    private AdminBulkOperationDTO submit(
+            AdminBulkOperationType type,
+            String requesterEmail,
+            IdSource source,
+            Function<List<Long>, Integer> action,
+            FinalStep finalStep
+    ) {
+        AdminBulkOperation op = new AdminBulkOperation();
+        op.setId(UUID.randomUUID().toString());
+        op.setType(type);
+        op.setStatus(AdminBulkOperationStatus.QUEUED);
+        op.setRequestedBy(requesterEmail);
+        op.setTargetCount(source.total);
+        op.setCreatedAt(Instant.now());
+        op.setHeartbeatAt(op.getCreatedAt());
+        operationRepo.save(op);
+
+        localOperations.add(op.getId());
+        try {
+            executor.execute(() -> {
+                try {
+                    run(op.getId(), source, action, finalStep);
+                } finally {
+                    localOperations.remove(op.getId());
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            localOperations.remove(op.getId());
+            op.setStatus(AdminBulkOperationStatus.FAILED);
+            op.setError("Too many bulk operations queued");
+            op.setFinishedAt(Instant.now());
+            operationRepo.save(op);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many bulk operations queued, try again later");
+        }
+
+        auditService.record(AuditAction.BULK_OPERATION_SUBMITTED, "BULK_OPERATION", null,
+                type + " " + op.getId() + " targets=" + source.total);
+        return toDto(op, List.of());
+    }
+
+    private void run(String operationId, IdSource source, Function<List<Long>, Integer> action, FinalStep finalStep) {
+        AdminBulkOperation op = operationRepo.findById(operationId).orElse(null);
+        if (op == null) {
+            return;
+        }
+        op.setStatus(AdminBulkOperationStatus.RUNNING);
+        op.setStartedAt(Instant.now());
+        op.setHeartbeatAt(op.getStartedAt());
+        operationRepo.save(op);
+
+        try {
+            long afterId = 0;
+            int chunkIndex = 0;
+            while (true) {
+                List<Long> page = source.next.apply(afterId);
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1);
+
+                List<Long> ids = page.stream().filter(id -> !source.excluded.contains(id)).toList();
+                runChunk(op, chunkIndex++, page.get(0), afterId, page.size(), () -> ids.isEmpty() ? 0 : action.apply(ids));
+            }
+
+            if (finalStep != null) {
+                if (op.getFailedChunks() == 0) {
+                    runChunk(op, chunkIndex, finalStep.id, finalStep.id, 1, finalStep.action);
+                } else {
+                    op.setError("Final step skipped because earlier chunks failed; resubmit to retry");
+                }
+            }
+
+            op.setStatus(op.getFailedChunks() == 0
+                    ? AdminBulkOperationStatus.COMPLETED
+                    : AdminBulkOperationStatus.COMPLETED_WITH_ERRORS);
+        } catch (RuntimeException ex) {
+            System.err.println("Bulk operation failed: " + operationId + " | " + ex.getMessage());
+            op.setStatus(AdminBulkOperationStatus.FAILED);
+            op.setError(truncate(ex.getMessage()));
+        }
+
+        op.setFinishedAt(Instant.now());
+        op.setHeartbeatAt(op.getFinishedAt());
+        operationRepo.save(op);
+    }
+
+    private void runChunk(AdminBulkOperation op, int chunkIndex, long firstId, long lastId, int requested, Supplier<Integer> work) {
+        AdminBulkChunk chunk = new AdminBulkChunk(null, op.getId(), chunkIndex, firstId, lastId, requested, 0, null, null);
+        try {
+            Integer affected = transactionTemplate.execute(status -> work.get());
+            chunk.setAffected(affected == null ? 0 : affected);
+        } catch (RuntimeException ex) {
+            System.err.println("Bulk operation chunk failed: " + op.getId() + " #" + chunkIndex + " | " + ex.getMessage());
+            chunk.setError(truncate(ex.getMessage()));
+            op.setFailedChunks(op.getFailedChunks() + 1);
+        }
+        chunk.setProcessedAt(Instant.now());
+        chunkRepo.save(chunk);
+
+        op.setProcessedCount(op.getProcessedCount() + requested);
+        op.setAffectedCount(op.getAffectedCount() + chunk.getAffected());
+        op.setHeartbeatAt(chunk.getProcessedAt());
+        operationRepo.save(op);
+    }
+
+    private AdminBulkOperationDTO toDto(AdminBulkOperation op, List<AdminBulkChunk> chunks) {
+        return new AdminBulkOperationDTO(
+                op.getId(),
+                op.getType(),
+                op.getStatus(),
+                op.getRequestedBy(),
+                op.getTargetCount(),
+                op.getProcessedCount(),
+                op.getAffectedCount(),
+                op.getFailedChunks(),
+                op.getCreatedAt(),
+                op.getStartedAt(),
+                op.getFinishedAt(),
+                op.getError(),
+                chunks.stream()
+                        .map(c -> new AdminBulkChunkDTO(c.getChunkIndex(), c.getFirstId(), c.getLastId(),
+                                c.getRequested(), c.getAffected(), c.getError(), c.getProcessedAt()))
+                        .toList()
+        );
+    }
+
+    private IdSource fixedIds(List<Long> requested, Set<Long> excluded) {
+        List<Long> ids = requested.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        if (ids.size() > MAX_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_IDS + " ids per request");
+        }
+        return new IdSource(ids.size(), afterId -> {
+            int from = Collections.binarySearch(ids, afterId);
+            from = from >= 0 ? from + 1 : -from - 1;
+            return ids.subList(from, Math.min(ids.size(), from + chunkSize));
+        }, excluded);
+    }
+
+    private void requireNoFilter(boolean hasFilter) {
+        if (hasFilter) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Provide either ids or a filter, not both");
+        }
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private record FinalStep(long id, Supplier<Integer> action) {
+    }
+
+    private static class IdSource {
+        private final long total;
+        private final LongFunction<List<Long>> next;
+        private final Set<Long> excluded;
+
+        private IdSource(long total, LongFunction<List<Long>> next, Set<Long> excluded) {
+            this.total = total;
+            this.next = next;
+            this.excluded = excluded;
+        }
+    }
+}
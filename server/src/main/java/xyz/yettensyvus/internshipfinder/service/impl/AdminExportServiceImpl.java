@@ -0,0 +1,198 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.yettensyvus.internshipfinder.enums.DataFormat;
+import xyz.yettensyvus.internshipfinder.service.AdminExportService;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Map;
+
+/**
+ * Streams admin exports straight from a forward-only JDBC cursor to the response. Postgres only honours the fetch
+ * size inside a transaction, so each export runs in a read-only one; rows never enter a persistence context and
+ * memory use stays flat regardless of table size.
+ */
+@Service
+public class AdminExportServiceImpl implements AdminExportService {
+
+    private static final Map<String, String> DATASETS = Map.of(
+            "users",
+            "select u.id, u.username, u.email, u.role, u.enabled, u.created_at from users u order by u.id",
+            "jobs",
+            "select j.id, j.title, j.company, j.location, j.type, j.paid, j.is_active as active, j.deadline, " +
+                    "j.duration, j.compensation, j.created_at, j.recruiter_id, u.email as recruiter_email " +
+                    "from jobs j left join users u on u.id = j.recruiter_id order by j.id",
+            "applications",
+            "select a.id, a.status, a.applied_at, a.job_id, j.title as job_title, a.student_id, " +
+                    "s.name as student_name, su.email as student_email from applications a " +
+                    "join jobs j on j.id = a.job_id join students s on s.id = a.student_id " +
+                    "join users su on su.id = s.user_id order by a.id",
+            "notifications",
+            "select n.id, n.user_id, u.email as user_email, n.type, n.title, n.message, n.actor_email, " +
+                    "n.job_id, n.application_id, n.read, n.created_at from notifications n " +
+                    "join users u on u.id = n.user_id order by n.id"
+    );
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.admin.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    public boolean isExportable(String dataset) {
+        return DATASETS.containsKey(dataset);
+    }
+
+    @Override
+    public void export(String dataset, DataFormat format, OutputStream out) throws IOException {
+        String sql = DATASETS.get(dataset);
+        if (sql == null) {
+            throw new IllegalArgumentException("Unknown export dataset: " + dataset);
+        }
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.setFetchSize(fetchSize);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        try (RowWriter writer = format == DataFormat.NDJSON ? new NdjsonRowWriter(out) : new CsvRowWriter(out)) {
+            tx.executeWithoutResult(status -> jdbc.query(sql, (ResultSetExtractor<Void>) rs -> {
+                try {
+                    writer.start(rs.getMetaData());
+                    while (rs.next()) {
+                        writer.row(rs);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object exportValue(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value instanceof Timestamp ts) {
+            return ts.toInstant().toString();
+        }
+        return value;
+    }
+
+    private interface RowWriter extends Closeable {
+        void start(ResultSetMetaData meta) throws SQLException, IOException;
+
+        void row(ResultSet rs) throws SQLException, IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private int columns;
+
+        private CsvRowWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        }
+
+        @Override
+        public void start(ResultSetMetaData meta) throws SQLException, IOException {
+            columns = meta.getColumnCount();
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) writer.write(',');
+                writer.write(meta.getColumnLabel(i));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= columns; i++) {
+                if (i > 1) writer.write(',');
+                Object value = exportValue(rs, i);
+                if (value != null) {
+                    writeField(value.toString(), value instanceof String);
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeField(String value, boolean text) throws IOException {
+            // Spreadsheets evaluate cells starting with these characters as formulas.
+            boolean formula = text && !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0;
+            boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            if (formula) {
+                writer.write('\'');
+            }
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private String[] labels;
+
+        private NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void start(ResultSetMetaData meta) throws SQLException {
+            labels = new String[meta.getColumnCount()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = meta.getColumnLabel(i + 1);
+            }
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < labels.length; i++) {
+                generator.writeFieldName(labels[i]);
+                generator.writeObject(exportValue(rs, i + 1));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
@@ -1,22 +1,26 @@
 package xyz.yettensyvus.internshipfinder.service.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
-import xyz.yettensyvus.internshipfinder.dto.AdminProfileDTO;
-import xyz.yettensyvus.internshipfinder.dto.AdminRecruiterDetailsDTO;
-import xyz.yettensyvus.internshipfinder.dto.AdminStudentDetailsDTO;
-import xyz.yettensyvus.internshipfinder.dto.AdminUserDetailsDTO;
-import xyz.yettensyvus.internshipfinder.dto.AdminUserUpdateRequest;
+import xyz.yettensyvus.internshipfinder.dto.*;
+import xyz.yettensyvus.internshipfinder.enums.AuditAction;
+import xyz.yettensyvus.internshipfinder.enums.CacheEntity;
 import xyz.yettensyvus.internshipfinder.enums.Role;
 import xyz.yettensyvus.internshipfinder.model.*;
 import xyz.yettensyvus.internshipfinder.repository.*;
+import xyz.yettensyvus.internshipfinder.security.PrincipalContextResolver;
+import xyz.yettensyvus.internshipfinder.service.AdminBulkService;
 import xyz.yettensyvus.internshipfinder.service.AdminService;
+import xyz.yettensyvus.internshipfinder.service.AuditService;
+import xyz.yettensyvus.internshipfinder.service.CacheInvalidationBus;
+import xyz.yettensyvus.internshipfinder.service.DashboardStatsService;
 import xyz.yettensyvus.internshipfinder.service.FileUploadService;
+import xyz.yettensyvus.internshipfinder.service.ProfilePictureThumbnailService;
 
 import java.util.*;
 
@@ -28,18 +32,32 @@ public class AdminServiceImpl implements AdminService {
     @Autowired private UserRepository userRepo;
     @Autowired private JobRepository jobRepo;
     @Autowired private ApplicationRepository applicationRepo;
-    @Autowired private NotificationRepository notificationRepo;
+    @Autowired private AdminListingRepository adminListingRepo;
+    @Autowired private UserSearchRepository userSearchRepo;
 
     @Autowired private FileUploadService fileUploadService;
+    @Autowired private ProfilePictureThumbnailService thumbnailService;
+    @Autowired private DashboardStatsService dashboardStatsService;
+    @Autowired private AdminBulkService adminBulkService;
+    @Autowired private UserCascadeDeleter userCascadeDeleter;
+    @Autowired private AuditService auditService;
+    @Autowired private PrincipalContextResolver principalResolver;
+    @Autowired private CacheInvalidationBus cacheInvalidationBus;
+
+    @Value("${app.admin.delete.async-threshold:10000}")
+    private long asyncDeleteThreshold;
+
+    @Value("${app.admin.search.max-results:50}")
+    private int maxSearchResults;
 
     @Override
-    public List<Student> getAllStudents() {
-        return studentRepo.findAll();
+    public AdminPageDTO<AdminStudentListItemDTO> listStudents(Boolean enabled, String emailPrefix, Pageable pageable) {
+        return adminListingRepo.findStudents(enabled, emailPrefix, pageable);
     }
 
     @Override
-    public List<Recruiter> getAllRecruiters() {
-        return recruiterRepo.findAll();
+    public AdminPageDTO<AdminRecruiterListItemDTO> listRecruiters(Boolean enabled, String emailPrefix, String company, Pageable pageable) {
+        return adminListingRepo.findRecruiters(enabled, emailPrefix, company, pageable);
     }
 
     @Override
@@ -47,6 +65,7 @@ public class AdminServiceImpl implements AdminService {
         User user = userRepo.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
         user.setEnabled(!user.isEnabled());
         userRepo.save(user);
+        auditService.record(user.isEnabled() ? AuditAction.USER_ENABLED : AuditAction.USER_DISABLED, "USER", id, null);
     }
 
     @Override
@@ -54,63 +73,41 @@ public class AdminServiceImpl implements AdminService {
         User user = userRepo.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
         user.setEnabled(enabled);
         userRepo.save(user);
+        auditService.record(enabled ? AuditAction.USER_ENABLED : AuditAction.USER_DISABLED, "USER", id, null);
     }
 
     @Override
-    public List<User> getAllUsers() {
-        return userRepo.findAll();
+    public AdminPageDTO<AdminUserListItemDTO> listUsers(Role role, Boolean enabled, String emailPrefix, Pageable pageable) {
+        return adminListingRepo.findUsers(role, enabled, emailPrefix, pageable);
     }
 
     @Override
-    @Transactional
-    public void deleteUser(Long id) {
-        User user = userRepo.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
-
-        List<String> blobsToDelete = new ArrayList<>();
-        if (user.getProfilePictureUrl() != null && !user.getProfilePictureUrl().isBlank()) {
-            blobsToDelete.add(user.getProfilePictureUrl());
+    public List<AdminUserSearchResultDTO> searchUsers(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
         }
+        return userSearchRepo.search(query, Math.max(1, Math.min(limit, maxSearchResults)));
+    }
 
-        if (user.getRole() == Role.STUDENT) {
-            Student student = studentRepo.findByUserId(user.getId());
-            if (student != null) {
-                if (student.getResumeUrl() != null && !student.getResumeUrl().isBlank()) {
-                    blobsToDelete.add(student.getResumeUrl());
-                }
-                applicationRepo.deleteByStudent(student);
-                studentRepo.delete(student);
-            }
-        }
+    @Override
+    public AdminBulkOperationDTO deleteUser(Long id, String requesterEmail) {
+        User user = userRepo.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (user.getRole() == Role.RECRUITER) {
-            Recruiter recruiter = recruiterRepo.findByUserId(user.getId());
-            if (recruiter != null) {
-                List<Job> jobs = jobRepo.findByRecruiter(recruiter);
-                for (Job job : jobs) {
-                    applicationRepo.deleteByJob(job);
-                }
-                jobRepo.deleteAll(jobs);
-                recruiterRepo.delete(recruiter);
-            }
+        if (user.getRole() == Role.RECRUITER
+                && jobRepo.countByRecruiterId(id) + applicationRepo.countByRecruiterId(id) > asyncDeleteThreshold) {
+            // Too large for one transaction: take the account and its postings offline now, purge in chunks.
+            user.setEnabled(false);
+            userRepo.save(user);
+            jobRepo.deactivateByRecruiterId(id);
+            cacheInvalidationBus.publish(CacheEntity.JOB, List.of());
+            AdminBulkOperationDTO purge = adminBulkService.submitRecruiterPurge(requesterEmail, id);
+            auditService.record(AuditAction.USER_PURGE_SCHEDULED, "USER", id, user.getEmail() + " operation=" + purge.getId());
+            return purge;
         }
 
-        notificationRepo.deleteByUser(user);
-        userRepo.delete(user);
-
-        if (!blobsToDelete.isEmpty()) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    for (String blob : blobsToDelete) {
-                        try {
-                            fileUploadService.deleteFileIfExists(blob);
-                        } catch (Exception ex) {
-                            System.err.println("Failed to delete blob: " + blob + " | " + ex.getMessage());
-                        }
-                    }
-                }
-            });
-        }
+        userCascadeDeleter.deleteUsers(List.of(id));
+        auditService.record(AuditAction.USER_DELETED, "USER", id, user.getEmail() + " role=" + user.getRole());
+        return null;
     }
 
     @Override
@@ -131,7 +128,8 @@ public class AdminServiceImpl implements AdminService {
                         s.getBranch(),
                         s.getYearOfPassing(),
                         fileUploadService.toReadSasUrl(s.getResumeUrl()),
-                        fileUploadService.toReadSasUrl(user.getProfilePictureUrl())
+                        fileUploadService.toReadSasUrl(user.getProfilePictureUrl()),
+                        thumbnailService.toThumbnailReadSasUrl(user)
                 );
             }
         }
@@ -143,7 +141,8 @@ public class AdminServiceImpl implements AdminService {
                         r.getId(),
                         r.getCompanyName(),
                         r.getCompanyWebsite(),
-                        fileUploadService.toReadSasUrl(user.getProfilePictureUrl())
+                        fileUploadService.toReadSasUrl(user.getProfilePictureUrl()),
+                        thumbnailService.toThumbnailReadSasUrl(user)
                 );
             }
         }
@@ -169,8 +168,8 @@ public class AdminServiceImpl implements AdminService {
     @Transactional
     public AdminUserDetailsDTO updateUserDetails(Long id, AdminUserUpdateRequest req, String requesterEmail) {
         User user = userRepo.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
-
-        List<String> blobsToDelete = new ArrayList<>();
+        Role previousRole = user.getRole();
+        boolean previouslyEnabled = user.isEnabled();
 
         if (req.getRole() != null && req.getRole() != user.getRole()) {
             if (requesterEmail != null && user.getEmail() != null && user.getEmail().equalsIgnoreCase(requesterEmail)) {
@@ -179,10 +178,10 @@ public class AdminServiceImpl implements AdminService {
             Role targetRole = req.getRole();
 
             if (user.getRole() == Role.STUDENT) {
-                deleteStudentData(user, blobsToDelete);
+                deleteStudentData(user);
             }
             if (user.getRole() == Role.RECRUITER) {
-                deleteRecruiterData(user, blobsToDelete);
+                deleteRecruiterData(user);
             }
 
             if (targetRole == Role.STUDENT) {
@@ -209,21 +208,6 @@ public class AdminServiceImpl implements AdminService {
         }
         userRepo.save(user);
 
-        if (!blobsToDelete.isEmpty()) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-            public void afterCommit() {
-                    for (String blob : blobsToDelete) {
-                        try {
-                            fileUploadService.deleteFileIfExists(blob);
-                        } catch (Exception ex) {
-                            System.err.println("Failed to delete blob: " + blob + " | " + ex.getMessage());
-                        }
-                    }
-                }
-            });
-        }
-
         if (user.getRole() == Role.STUDENT && req.getStudent() != null) {
             Student s = studentRepo.findByUserId(user.getId());
             if (s != null) {
@@ -233,8 +217,8 @@ public class AdminServiceImpl implements AdminService {
                 if (dto.getCollege() != null) s.setCollege(dto.getCollege());
                 if (dto.getBranch() != null) s.setBranch(dto.getBranch());
                 if (dto.getYearOfPassing() != null) s.setYearOfPassing(dto.getYearOfPassing());
-                if (dto.getResumeUrl() != null) s.setResumeUrl(fileUploadService.toStableBlobUrl(dto.getResumeUrl()));
-                if (dto.getProfilePictureUrl() != null) user.setProfilePictureUrl(fileUploadService.toStableBlobUrl(dto.getProfilePictureUrl()));
+                if (dto.getResumeUrl() != null) setResumeUrl(s, fileUploadService.toStableBlobUrl(dto.getResumeUrl()));
+                if (dto.getProfilePictureUrl() != null) setProfilePictureUrl(user, fileUploadService.toStableBlobUrl(dto.getProfilePictureUrl()));
                 studentRepo.save(s);
                 userRepo.save(user);
             }
@@ -246,37 +230,50 @@ public class AdminServiceImpl implements AdminService {
                 AdminRecruiterDetailsDTO dto = req.getRecruiter();
                 if (dto.getCompanyName() != null) r.setCompanyName(dto.getCompanyName());
                 if (dto.getCompanyWebsite() != null) r.setCompanyWebsite(dto.getCompanyWebsite());
-                if (dto.getProfilePictureUrl() != null) user.setProfilePictureUrl(fileUploadService.toStableBlobUrl(dto.getProfilePictureUrl()));
+                if (dto.getProfilePictureUrl() != null) setProfilePictureUrl(user, fileUploadService.toStableBlobUrl(dto.getProfilePictureUrl()));
                 recruiterRepo.save(r);
                 userRepo.save(user);
             }
         }
 
+        if (previousRole != user.getRole()) {
+            auditService.record(AuditAction.USER_ROLE_CHANGED, "USER", id, previousRole + " -> " + user.getRole());
+        }
+        if (previouslyEnabled != user.isEnabled()) {
+            auditService.record(user.isEnabled() ? AuditAction.USER_ENABLED : AuditAction.USER_DISABLED, "USER", id, null);
+        }
+        auditService.record(AuditAction.USER_UPDATED, "USER", id, null);
+        principalResolver.evictUsers(List.of(id));
         return getUserDetails(id);
     }
 
-    private void deleteStudentData(User user, List<String> blobsToDelete) {
-        Student student = studentRepo.findByUserId(user.getId());
-        if (student == null) return;
-
-        if (student.getResumeUrl() != null && !student.getResumeUrl().isBlank()) {
-            blobsToDelete.add(student.getResumeUrl());
+    private void setResumeUrl(Student student, String url) {
+        String previous = student.getResumeUrl();
+        if (Objects.equals(previous, url)) {
+            return;
         }
+        fileUploadService.retainFile(url);
+        student.setResumeUrl(url);
+        fileUploadService.releaseFile(previous);
+    }
 
-        applicationRepo.deleteByStudent(student);
-        studentRepo.delete(student);
+    private void setProfilePictureUrl(User user, String url) {
+        if (url != null && url.equals(user.getProfilePictureUrl())) {
+            return;
+        }
+        String previous = user.getProfilePictureUrl();
+        String previousThumbnail = user.getProfilePictureThumbnailUrl();
+        user.setProfilePictureUrl(url);
+        user.setProfilePictureThumbnailUrl(null);
+        thumbnailService.releaseProfilePicture(user.getId(), previous, previousThumbnail);
     }
 
-    private void deleteRecruiterData(User user, List<String> blobsToDelete) {
-        Recruiter recruiter = recruiterRepo.findByUserId(user.getId());
-        if (recruiter == null) return;
+    private void deleteStudentData(User user) {
+        userCascadeDeleter.deleteStudents(List.of(user.getId()));
+    }
 
-        List<Job> jobs = jobRepo.findByRecruiter(recruiter);
-        for (Job job : jobs) {
-            applicationRepo.deleteByJob(job);
-        }
-        jobRepo.deleteAll(jobs);
-        recruiterRepo.delete(recruiter);
+    private void deleteRecruiterData(User user) {
+        userCascadeDeleter.deleteRecruiters(List.of(user.getId()));
     }
 
     private void ensureStudent(User user) {
@@ -285,6 +282,7 @@ public class AdminServiceImpl implements AdminService {
         Student s = new Student();
         s.setUser(user);
         studentRepo.save(s);
+        dashboardStatsService.studentProfileAdded();
     }
 
     private void ensureRecruiter(User user) {
@@ -293,11 +291,12 @@ public class AdminServiceImpl implements AdminService {
         Recruiter r = new Recruiter();
         r.setUser(user);
         recruiterRepo.save(r);
+        dashboardStatsService.recruiterProfileAdded();
     }
 
     @Override
-    public List<Job> getAllJobs() {
-        return jobRepo.findAll();
+    public AdminPageDTO<AdminJobListItemDTO> listJobs(Boolean active, String company, Long recruiterId, Pageable pageable) {
+        return adminListingRepo.findJobs(active, company, recruiterId, pageable);
     }
 
     @Override
@@ -305,17 +304,12 @@ public class AdminServiceImpl implements AdminService {
         Job job = jobRepo.findById(jobId).orElseThrow(() -> new RuntimeException("Job not found"));
         job.setActive(!job.isActive());
         jobRepo.save(job);
+        auditService.record(job.isActive() ? AuditAction.JOB_ACTIVATED : AuditAction.JOB_DEACTIVATED, "JOB", jobId, null);
     }
 
     @Override
     public Map<String, Object> getDashboardStats() {
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalStudents", studentRepo.count());
-        stats.put("totalRecruiters", recruiterRepo.count());
-        stats.put("totalJobs", jobRepo.count());
-        stats.put("totalUsers", userRepo.count());
-        stats.put("totalApplications", applicationRepo.count());
-        return stats;
+        return dashboardStatsService.getStats();
     }
 
     @Override
@@ -326,7 +320,8 @@ public class AdminServiceImpl implements AdminService {
                 user.getEmail(),
                 user.getUsername(),
                 user.getRole().name(),
-                fileUploadService.toReadSasUrl(user.getProfilePictureUrl())
+                fileUploadService.toReadSasUrl(user.getProfilePictureUrl()),
+                thumbnailService.toThumbnailReadSasUrl(user)
         );
     }
 
@@ -349,8 +344,9 @@ public class AdminServiceImpl implements AdminService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         String imageUrl = fileUploadService.uploadFile(file, "admin-profile-pictures");
-        user.setProfilePictureUrl(imageUrl);
-        userRepo.save(user);
+        thumbnailService.replaceProfilePicture(user.getId(), imageUrl);
+
+        thumbnailService.generateAsync(imageUrl);
 
         return fileUploadService.toReadSasUrl(imageUrl);
     }
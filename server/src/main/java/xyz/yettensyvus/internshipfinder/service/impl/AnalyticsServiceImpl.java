@@ -0,0 +1,41 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import xyz.yettensyvus.internshipfinder.dto.AnalyticsBucketDTO;
+import xyz.yettensyvus.internshipfinder.enums.AnalyticsMetric;
+import xyz.yettensyvus.internshipfinder.enums.RollupGranularity;
+import xyz.yettensyvus.internshipfinder.repository.AnalyticsRollupRepository;
+import xyz.yettensyvus.internshipfinder.service.AnalyticsService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final Duration MAX_HOURLY_RANGE = Duration.ofDays(31);
+    private static final Duration MAX_DAILY_RANGE = Duration.ofDays(3 * 366);
+
+    @Autowired
+    private AnalyticsRollupRepository rollupRepo;
+
+    @Override
+    public List<AnalyticsBucketDTO> getRollups(AnalyticsMetric metric, RollupGranularity granularity, Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must be before to");
+        }
+        Duration max = granularity == RollupGranularity.HOUR ? MAX_HOURLY_RANGE : MAX_DAILY_RANGE;
+        if (Duration.between(from, to).compareTo(max) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Range too large for " + granularity + " granularity");
+        }
+
+        return rollupRepo.findRange(metric, granularity, Date.from(from), Date.from(to)).stream()
+                .map(r -> new AnalyticsBucketDTO(r.getBucketStart(), r.getDimension(), r.getEventCount()))
+                .toList();
+    }
+}
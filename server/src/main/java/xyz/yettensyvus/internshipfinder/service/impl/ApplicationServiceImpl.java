@@ -1,17 +1,27 @@
 package xyz.yettensyvus.internshipfinder.service.impl;
 
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.yettensyvus.internshipfinder.dto.RecruiterApplicationDTO;
+import xyz.yettensyvus.internshipfinder.dto.RecruiterStudentDTO;
+import xyz.yettensyvus.internshipfinder.dto.StudentApplicationDTO;
 import xyz.yettensyvus.internshipfinder.enums.NotificationType;
 import xyz.yettensyvus.internshipfinder.enums.Status;
 import xyz.yettensyvus.internshipfinder.model.*;
 import xyz.yettensyvus.internshipfinder.repository.ApplicationRepository;
+import xyz.yettensyvus.internshipfinder.repository.ApplicationStatusEventRepository;
 import xyz.yettensyvus.internshipfinder.repository.JobRepository;
-import xyz.yettensyvus.internshipfinder.repository.RecruiterRepository;
-import xyz.yettensyvus.internshipfinder.repository.StudentRepository;
 import xyz.yettensyvus.internshipfinder.repository.UserRepository;
+import xyz.yettensyvus.internshipfinder.security.PrincipalContextResolver;
 import xyz.yettensyvus.internshipfinder.service.ApplicationService;
+import xyz.yettensyvus.internshipfinder.service.DashboardStatsService;
+import xyz.yettensyvus.internshipfinder.service.FileUploadService;
 import xyz.yettensyvus.internshipfinder.service.NotificationService;
+import xyz.yettensyvus.internshipfinder.service.ProfilePictureThumbnailService;
 
 import java.util.Date;
 import java.util.List;
@@ -22,52 +32,75 @@ public class ApplicationServiceImpl implements ApplicationService {
     @Autowired
     private ApplicationRepository appRepo;
 
-    @Autowired
-    private StudentRepository studentRepo;
-
     @Autowired
     private JobRepository jobRepo;
 
     @Autowired
-    private RecruiterRepository recruiterRepo;
+    private UserRepository userRepo;
 
     @Autowired
-    private UserRepository userRepo;
+    private ApplicationStatusEventRepository statusEventRepo;
 
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private ProfilePictureThumbnailService thumbnailService;
+
+    @Autowired
+    private JobDetailsMapper jobDetailsMapper;
+
+    @Autowired
+    private PrincipalContextResolver principalResolver;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private TransactionTemplate readOnlyTx;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
     @Override
+    @Transactional
     public String applyToJobByEmail(String email, Long jobId) {
-        User user = userRepo.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        Student student = studentRepo.findByUserId(user.getId());
-        Job job = jobRepo.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
+        ApplicationRepository.ApplyResult result = appRepo.claimApplication(email, jobId);
 
-        if (appRepo.existsByStudentAndJob(student, job)) {
+        if (result.getStudentId() == null) {
+            throw new RuntimeException("Student not found");
+        }
+        if (result.getJobId() == null) {
+            throw new RuntimeException("Job not found");
+        }
+        if (result.getApplicationId() == null) {
             return "Already applied to this job";
         }
+        appRepo.insertClaimed(result.getApplicationId());
 
-        Application app = new Application();
-        app.setStudent(student);
-        app.setJob(job);
-        app.setStatus(Status.APPLIED);
-        app.setAppliedAt(new Date());
+        dashboardStatsService.applicationSubmitted();
 
-        appRepo.save(app);
-
-        if (job.getRecruiter() != null && job.getRecruiter().getUser() != null) {
-            String studentName = student.getName() == null ? "Student" : student.getName();
+        if (result.getRecruiterId() != null) {
+            String studentName = result.getStudentName() == null ? "Student" : result.getStudentName();
             notificationService.createForUserEntity(
-                    job.getRecruiter().getUser(),
+                    userRepo.getReferenceById(result.getRecruiterId()),
                     NotificationType.APPLICATION_SUBMITTED,
                     "New application received",
-                    studentName + " applied to: " + job.getTitle(),
+                    studentName + " applied to: " + result.getJobTitle(),
                     email,
-                    job.getId(),
-                    app.getId()
+                    result.getJobId(),
+                    result.getApplicationId()
             );
         }
 
@@ -75,45 +108,66 @@ public class ApplicationServiceImpl implements ApplicationService {
     }
 
     @Override
-    public List<Application> getApplicationsByEmail(String email) {
-        User user = userRepo.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        Student student = studentRepo.findByUserId(user.getId());
-        return appRepo.findByStudent(student);
+    public List<StudentApplicationDTO> getApplicationsByEmail(String email) {
+        Long studentId = principalResolver.require(email).studentId();
+        if (studentId == null) throw new RuntimeException("Student not found");
+
+        List<Application> apps = appRepo.findByStudentId(studentId);
+        return apps.stream().map(app -> new StudentApplicationDTO(
+                app.getId(),
+                app.getStatus(),
+                app.getAppliedAt(),
+                app.getJob() != null ? jobDetailsMapper.toJobDetails(app.getJob()) : null
+        )).toList();
     }
 
     @Override
-    public List<Application> getApplicationsByJobForRecruiter(String recruiterEmail, Long jobId) {
-        Recruiter recruiter = recruiterRepo.findByUserEmail(recruiterEmail);
-        if (recruiter == null) throw new RuntimeException("Recruiter not found");
-
-        Job job = jobRepo.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
+    public List<RecruiterApplicationDTO> getApplicationsByJobForRecruiter(String recruiterEmail, Long jobId) {
+        Long recruiterId = requireRecruiterId(recruiterEmail);
+        List<Application> apps = readOnlyTx.execute(status -> {
+            Job job = jobRepo.findById(jobId)
+                    .orElseThrow(() -> new RuntimeException("Job not found"));
+
+            if (job.getRecruiter() == null || job.getRecruiter().getId() == null
+                    || !job.getRecruiter().getId().equals(recruiterId)) {
+                throw new RuntimeException("Not allowed to view applications for this job");
+            }
+
+            return appRepo.findByJob(job);
+        });
+        return apps.stream().map(this::toRecruiterApplication).toList();
+    }
 
-        if (job.getRecruiter() == null || job.getRecruiter().getId() == null
-                || !job.getRecruiter().getId().equals(recruiter.getId())) {
-            throw new RuntimeException("Not allowed to view applications for this job");
-        }
+    @Override
+    public RecruiterApplicationDTO updateApplicationStatusForRecruiter(String recruiterEmail, Long applicationId, Status status) {
+        Application saved = transactionTemplate.execute(tx -> updateStatus(recruiterEmail, applicationId, status));
+        return toRecruiterApplication(saved);
+    }
 
-        return appRepo.findByJob(job);
+    private Long requireRecruiterId(String email) {
+        Long recruiterId = principalResolver.require(email).recruiterId();
+        if (recruiterId == null) throw new RuntimeException("Recruiter not found");
+        return recruiterId;
     }
 
-    @Override
-    public Application updateApplicationStatusForRecruiter(String recruiterEmail, Long applicationId, Status status) {
-        Recruiter recruiter = recruiterRepo.findByUserEmail(recruiterEmail);
-        if (recruiter == null) throw new RuntimeException("Recruiter not found");
+    private Application updateStatus(String recruiterEmail, Long applicationId, Status status) {
+        Long recruiterId = requireRecruiterId(recruiterEmail);
 
-        Application application = appRepo.findById(applicationId)
+        Application application = appRepo.findDetailedById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
         Job job = application.getJob();
         if (job == null || job.getRecruiter() == null || job.getRecruiter().getId() == null
-                || !job.getRecruiter().getId().equals(recruiter.getId())) {
+                || !job.getRecruiter().getId().equals(recruiterId)) {
             throw new RuntimeException("Not allowed to update this application");
         }
 
+        Status previous = application.getStatus();
         application.setStatus(status);
         Application saved = appRepo.save(application);
+        if (previous != status) {
+            statusEventRepo.save(new ApplicationStatusEvent(null, saved.getId(), previous, status, new Date()));
+        }
 
         if (saved.getStudent() != null && saved.getStudent().getUser() != null) {
             String jobTitle = job != null && job.getTitle() != null ? job.getTitle() : "your job";
@@ -130,4 +184,36 @@ public class ApplicationServiceImpl implements ApplicationService {
 
         return saved;
     }
+
+    private RecruiterApplicationDTO toRecruiterApplication(Application app) {
+        RecruiterStudentDTO student = null;
+        if (app.getStudent() != null && app.getStudent().getUser() != null) {
+            student = new RecruiterStudentDTO(
+                    app.getStudent().getId(),
+                    app.getStudent().getName(),
+                    app.getStudent().getUser().getEmail(),
+                    app.getStudent().getPhone(),
+                    app.getStudent().getCollege(),
+                    app.getStudent().getBranch(),
+                    app.getStudent().getYearOfPassing(),
+                    fileUploadService.toReadSasUrl(app.getStudent().getResumeUrl()),
+                    fileUploadService.toReadSasUrl(app.getStudent().getUser().getProfilePictureUrl()),
+                    thumbnailService.toThumbnailReadSasUrl(app.getStudent().getUser())
+            );
+        }
+
+        Long jobIdValue = app.getJob() != null ? app.getJob().getId() : null;
+        String jobTitle = app.getJob() != null ? app.getJob().getTitle() : null;
+        String jobCompany = app.getJob() != null ? app.getJob().getCompany() : null;
+
+        return new RecruiterApplicationDTO(
+                app.getId(),
+                app.getStatus(),
+                app.getAppliedAt(),
+                jobIdValue,
+                jobTitle,
+                jobCompany,
+                student
+        );
+    }
 }
@@ -0,0 +1,178 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import xyz.yettensyvus.internshipfinder.dto.AdminPageDTO;
+import xyz.yettensyvus.internshipfinder.dto.AuditEventDTO;
+import xyz.yettensyvus.internshipfinder.enums.AuditAction;
+import xyz.yettensyvus.internshipfinder.enums.AuditOverflowPolicy;
+import xyz.yettensyvus.internshipfinder.enums.PartitionedTable;
+import xyz.yettensyvus.internshipfinder.repository.AuditLogRepository;
+import xyz.yettensyvus.internshipfinder.repository.PartitionRepository;
+import xyz.yettensyvus.internshipfinder.service.AuditService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admin audit trail. {@link #record} never touches the database: events are offered to a lock-free ring buffer
+ * (after commit when called inside a transaction) and a scheduled flusher appends them to the partitioned
+ * audit table in batches. When the buffer is full the configured {@link AuditOverflowPolicy} applies: DROP
+ * counts and reports the loss, CALLER_RUNS writes the event synchronously on the calling thread.
+ */
+@Service
+public class AuditServiceImpl implements AuditService {
+
+    private static final Duration DEFAULT_RANGE = Duration.ofDays(30);
+
+    @Autowired
+    private AuditLogRepository auditLogRepo;
+
+    @Autowired
+    private PartitionRepository partitionRepo;
+
+    @Value("${app.audit.buffer-capacity:8192}")
+    private int bufferCapacity;
+
+    @Value("${app.audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.audit.overflow-policy:DROP}")
+    private AuditOverflowPolicy overflowPolicy;
+
+    private AuditRingBuffer<AuditEventDTO> buffer;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong droppedReported = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        buffer = new AuditRingBuffer<>(bufferCapacity);
+    }
+
+    @Override
+    public void record(AuditAction action, String targetType, Long targetId, String details) {
+        AuditEventDTO event = new AuditEventDTO(null, Instant.now(), currentActor(), action, targetType, targetId, details);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(event);
+            }
+        });
+    }
+
+    private void enqueue(AuditEventDTO event) {
+        if (buffer.offer(event)) {
+            return;
+        }
+
+        // Buffer full: the flusher has fallen behind or the database is unavailable.
+        if (overflowPolicy == AuditOverflowPolicy.CALLER_RUNS) {
+            write(List.of(event));
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Override
+    public AdminPageDTO<AuditEventDTO> search(
+            Instant from,
+            Instant to,
+            String actorEmail,
+            AuditAction action,
+            String targetType,
+            Long targetId,
+            Pageable pageable
+    ) {
+        Instant end = to == null ? Instant.now() : to;
+        Instant start = from == null ? end.minus(DEFAULT_RANGE) : from;
+
+        List<AuditEventDTO> rows = auditLogRepo.find(
+                start, end, actorEmail, action, targetType, targetId,
+                pageable.getOffset(), pageable.getPageSize() + 1);
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<AuditEventDTO> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new AdminPageDTO<>(
+                new ArrayList<>(content),
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                pageable.getOffset() + content.size() + (hasNext ? 1 : 0),
+                hasNext,
+                hasNext
+        );
+    }
+
+    // Each instance drains its own buffer, so unlike partition maintenance this is not cluster-locked.
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval-ms:500}")
+    public void flush() {
+        List<AuditEventDTO> batch = new ArrayList<>(batchSize);
+        AuditEventDTO event;
+        while ((event = buffer.poll()) != null) {
+            batch.add(event);
+            if (batch.size() >= batchSize) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+        reportDropped();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private void write(List<AuditEventDTO> batch) {
+        try {
+            auditLogRepo.insertBatch(batch);
+        } catch (Exception ex) {
+            // Most likely a row with no matching partition (e.g. the month rolled over before maintenance ran).
+            try {
+                for (AuditEventDTO e : batch) {
+                    partitionRepo.ensurePartition(PartitionedTable.ADMIN_AUDIT_LOG,
+                            YearMonth.from(e.getOccurredAt().atZone(ZoneOffset.UTC)));
+                }
+                auditLogRepo.insertBatch(batch);
+            } catch (Exception retryEx) {
+                dropped.addAndGet(batch.size());
+                System.err.println("Failed to write " + batch.size() + " audit events: " + retryEx.getMessage());
+            }
+        }
+    }
+
+    private void reportDropped() {
+        long total = dropped.get();
+        long reported = droppedReported.get();
+        if (total > reported && droppedReported.compareAndSet(reported, total)) {
+            System.err.println("Audit log dropped " + (total - reported) + " events (" + total + " since startup)");
+        }
+    }
+
+    private String currentActor() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth == null || auth.getName() == null ? null : auth.getName().toLowerCase();
+    }
+}
@@ -0,0 +1,226 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import com.azure.storage.blob.BlobClient;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.Context;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.batch.BlobBatch;
+import com.azure.storage.blob.batch.BlobBatchClient;
+import com.azure.storage.blob.batch.BlobBatchClientBuilder;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.models.DeleteSnapshotsOptionType;
+import com.azure.storage.blob.specialized.BlockBlobClient;
+import com.azure.storage.blob.sas.BlobSasPermission;
+import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import xyz.yettensyvus.internshipfinder.service.StorageBackend;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+@Service
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "azure", matchIfMissing = true)
+public class AzureBlobStorageBackend implements StorageBackend {
+
+    @Autowired
+    private BlobContainerClient blobContainerClient;
+
+    @Autowired
+    private Environment environment;
+
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private volatile BlobBatchClient batchClient;
+
+    @Override
+    public String upload(String objectName, InputStream content, long length, String contentType) {
+        BlobClient blobClient = blobContainerClient.getBlobClient(objectName);
+        blobClient.upload(content, length, true);
+
+        if (contentType != null && !contentType.isBlank()) {
+            blobClient.setHttpHeaders(new BlobHttpHeaders().setContentType(contentType));
+        }
+
+        return blobClient.getBlobUrl();
+    }
+
+    @Override
+    public InputStream openRead(String objectName) {
+        return blobContainerClient.getBlobClient(objectName).openInputStream();
+    }
+
+    @Override
+    public String toStableUrl(String objectName) {
+        return blobContainerClient.getBlobClient(objectName).getBlobUrl();
+    }
+
+    @Override
+    public String toSignedReadUrl(String objectName) {
+        BlobClient blobClient = blobContainerClient.getBlobClient(objectName);
+
+        BlobSasPermission permission = new BlobSasPermission().setReadPermission(true);
+        OffsetDateTime expiry = OffsetDateTime.now().plus(getSasExpiry());
+
+        BlobServiceSasSignatureValues values = new BlobServiceSasSignatureValues(expiry, permission);
+        String sas = blobClient.generateSas(values);
+        return blobClient.getBlobUrl() + "?" + sas;
+    }
+
+    @Override
+    public void deleteIfExists(String objectName) {
+        blobContainerClient.getBlobClient(objectName).deleteIfExists();
+    }
+
+    @Override
+    public List<String> deleteBatch(List<String> objectNames) {
+        List<String> failed = new ArrayList<>();
+        for (int from = 0; from < objectNames.size(); from += MAX_BATCH_SIZE) {
+            List<String> chunk = objectNames.subList(from, Math.min(objectNames.size(), from + MAX_BATCH_SIZE));
+            BlobBatch batch = getBatchClient().getBlobBatch();
+            Map<String, Response<Void>> responses = new LinkedHashMap<>();
+            for (String name : chunk) {
+                responses.put(name, batch.deleteBlob(blobContainerClient.getBlobContainerName(), name,
+                        DeleteSnapshotsOptionType.INCLUDE, null));
+            }
+
+            try {
+                getBatchClient().submitBatchWithResponse(batch, false, null, Context.NONE);
+            } catch (RuntimeException ex) {
+                failed.addAll(chunk);
+                continue;
+            }
+
+            for (Map.Entry<String, Response<Void>> entry : responses.entrySet()) {
+                try {
+                    int status = entry.getValue().getStatusCode();
+                    if (status >= 300 && status != 404) {
+                        failed.add(entry.getKey());
+                    }
+                } catch (BlobStorageException ex) {
+                    if (ex.getStatusCode() != 404) {
+                        failed.add(entry.getKey());
+                    }
+                }
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public void stageChunk(String objectName, String uploadId, int index, long offset, InputStream content, long length) {
+        blockBlobClient(objectName).stageBlock(blockId(uploadId, index), content, length);
+    }
+
+    /**
+     * Blocks can only be committed to the blob they were staged on, so the upload is committed there and then
+     * copied server-side to the target; no content passes through the application.
+     */
+    @Override
+    public String commitChunks(String objectName, String uploadId, int chunkCount, String contentType, String targetObjectName) {
+        List<String> blockIds = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            blockIds.add(blockId(uploadId, i));
+        }
+
+        BlockBlobClient staged = blockBlobClient(objectName);
+        staged.commitBlockList(blockIds, true);
+
+        BlockBlobClient target = staged;
+        if (!targetObjectName.equals(objectName)) {
+            target = blockBlobClient(targetObjectName);
+            target.copyFromUrl(toSignedReadUrl(objectName));
+            staged.deleteIfExists();
+        }
+        if (contentType != null && !contentType.isBlank()) {
+            target.setHttpHeaders(new BlobHttpHeaders().setContentType(contentType));
+        }
+        return target.getBlobUrl();
+    }
+
+    @Override
+    public void abortChunks(String objectName, String uploadId) {
+        // Uncommitted blocks are discarded by the service after seven days; there is nothing to commit or delete.
+    }
+
+    private BlockBlobClient blockBlobClient(String objectName) {
+        return blobContainerClient.getBlobClient(objectName).getBlockBlobClient();
+    }
+
+    private String blockId(String uploadId, int index) {
+        String raw = uploadId + "-" + String.format("%06d", index);
+        return Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void forEachObject(BiConsumer<String, Instant> visitor) {
+        for (BlobItem item : blobContainerClient.listBlobs()) {
+            OffsetDateTime lastModified = item.getProperties() != null ? item.getProperties().getLastModified() : null;
+            visitor.accept(item.getName(), lastModified != null ? lastModified.toInstant() : Instant.now());
+        }
+    }
+
+    private BlobBatchClient getBatchClient() {
+        if (batchClient == null) {
+            batchClient = new BlobBatchClientBuilder(blobContainerClient).buildClient();
+        }
+        return batchClient;
+    }
+
+    @Override
+    public String extractObjectName(String storedUrlOrObjectName) {
+        if (!storedUrlOrObjectName.startsWith("http://") && !storedUrlOrObjectName.startsWith("https://")) {
+            return storedUrlOrObjectName;
+        }
+
+        try {
+            URI uri = URI.create(storedUrlOrObjectName);
+            String path = uri.getPath();
+            if (path == null) {
+                return storedUrlOrObjectName;
+            }
+
+            String normalized = path.startsWith("/") ? path.substring(1) : path;
+            String container = blobContainerClient.getBlobContainerName();
+            String prefix = container + "/";
+            if (normalized.startsWith(prefix)) {
+                normalized = normalized.substring(prefix.length());
+            }
+
+            return URLDecoder.decode(normalized, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            return storedUrlOrObjectName;
+        }
+    }
+
+    private Duration getSasExpiry() {
+        String raw = environment.getProperty("azure.storage.sas.expiry-minutes");
+        if (raw == null || raw.isBlank()) {
+            return Duration.ofMinutes(60);
+        }
+        try {
+            long minutes = Long.parseLong(raw.trim());
+            if (minutes <= 0) {
+                return Duration.ofMinutes(60);
+            }
+            return Duration.ofMinutes(minutes);
+        } catch (NumberFormatException ex) {
+            return Duration.ofMinutes(60);
+        }
+    }
+}
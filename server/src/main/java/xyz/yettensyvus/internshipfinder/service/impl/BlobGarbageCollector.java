@@ -0,0 +1,211 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.yettensyvus.internshipfinder.model.BlobDeletion;
+import xyz.yettensyvus.internshipfinder.repository.BlobDeletionRepository;
+import xyz.yettensyvus.internshipfinder.repository.StoredFileRepository;
+import xyz.yettensyvus.internshipfinder.repository.StudentRepository;
+import xyz.yettensyvus.internshipfinder.repository.UserRepository;
+import xyz.yettensyvus.internshipfinder.service.SchedulerLockService;
+import xyz.yettensyvus.internshipfinder.service.StorageBackend;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+@Service
+public class BlobGarbageCollector {
+
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(6);
+
+    @Autowired
+    private BlobDeletionRepository blobDeletionRepo;
+
+    @Autowired
+    private StoredFileRepository storedFileRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private StudentRepository studentRepo;
+
+    @Autowired
+    private StorageBackend storageBackend;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Value("${app.storage.gc.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.storage.gc.reconcile-grace-hours:24}")
+    private long reconcileGraceHours;
+
+    @Scheduled(fixedDelayString = "${app.storage.gc.interval-ms:30000}")
+    public void drain() {
+        schedulerLockService.runLocked("blob-gc-drain", this::drainDue);
+    }
+
+    @Scheduled(cron = "${app.storage.gc.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        schedulerLockService.runLocked("blob-gc-reconcile", this::enqueueUnreferenced);
+    }
+
+    private void drainDue() {
+        while (true) {
+            schedulerLockService.ensureLeaseHeld();
+            List<BlobDeletion> claimed = transactionTemplate.execute(status -> claimDue());
+            if (claimed == null || claimed.isEmpty()) {
+                return;
+            }
+
+            process(claimed);
+
+            if (claimed.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void enqueueUnreferenced() {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(reconcileGraceHours));
+        List<String> chunk = new ArrayList<>();
+        int[] enqueued = {0};
+
+        storageBackend.forEachObject((name, lastModified) -> {
+            if (lastModified.isAfter(cutoff)) {
+                return;
+            }
+            chunk.add(name);
+            if (chunk.size() >= 500) {
+                schedulerLockService.ensureLeaseHeld();
+                enqueued[0] += enqueueOrphans(chunk);
+                chunk.clear();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            enqueued[0] += enqueueOrphans(chunk);
+        }
+
+        if (enqueued[0] > 0) {
+            System.out.println("Blob reconciliation queued " + enqueued[0] + " unreferenced blobs for deletion");
+        }
+    }
+
+    private List<BlobDeletion> claimDue() {
+        Instant now = Instant.now();
+        List<BlobDeletion> due = blobDeletionRepo.lockDue(now, batchSize);
+        for (BlobDeletion d : due) {
+            d.setNextAttemptAt(now.plus(CLAIM_LEASE));
+        }
+        return blobDeletionRepo.saveAll(due);
+    }
+
+    private void process(List<BlobDeletion> claimed) {
+        List<Long> ids = claimed.stream().map(BlobDeletion::getId).toList();
+        String error = transactionTemplate.execute(status -> deleteLocked(ids));
+        if (error != null) {
+            System.err.println(error);
+        }
+    }
+
+    /**
+     * Re-locks the claimed entries and re-checks references in the same transaction as the delete. An upload that
+     * recreates a content-addressed blob cancels its queue entry first, so it either removed the entry before this
+     * lock or waits on it until the blob is gone and then uploads a fresh copy.
+     */
+    private String deleteLocked(List<Long> ids) {
+        List<BlobDeletion> locked = blobDeletionRepo.lockByIds(ids);
+        List<String> names = locked.stream().map(BlobDeletion::getObjectName).toList();
+
+        List<String> contentAddressed = names.stream()
+                .filter(n -> n.startsWith(FileUploadServiceImpl.CONTENT_ADDRESSED_PREFIX))
+                .toList();
+        Set<String> stillReferenced = contentAddressed.isEmpty()
+                ? Set.of()
+                : new HashSet<>(storedFileRepo.findExistingBlobNames(contentAddressed));
+
+        List<String> toDelete = names.stream().filter(n -> !stillReferenced.contains(n)).toList();
+
+        Set<String> failed;
+        String error = null;
+        try {
+            failed = new HashSet<>(storageBackend.deleteBatch(toDelete));
+        } catch (Exception ex) {
+            failed = new HashSet<>(toDelete);
+            error = ex.getMessage();
+        }
+
+        Instant now = Instant.now();
+        List<Long> done = new ArrayList<>();
+        List<BlobDeletion> retry = new ArrayList<>();
+        for (BlobDeletion d : locked) {
+            if (!failed.contains(d.getObjectName())) {
+                done.add(d.getId());
+                continue;
+            }
+            d.setAttempts(d.getAttempts() + 1);
+            d.setNextAttemptAt(now.plus(backoff(d.getAttempts())));
+            d.setLastError(truncate(error == null ? "Delete failed" : error));
+            retry.add(d);
+        }
+
+        if (!done.isEmpty()) {
+            blobDeletionRepo.deleteAllByIdInBatch(done);
+        }
+        if (!retry.isEmpty()) {
+            blobDeletionRepo.saveAll(retry);
+        }
+
+        return failed.isEmpty() ? null : "Failed to delete " + failed.size() + " blobs, will retry: " + error;
+    }
+
+    private int enqueueOrphans(List<String> names) {
+        Map<String, String> nameByUrl = new HashMap<>();
+        for (String name : names) {
+            nameByUrl.put(storageBackend.toStableUrl(name), name);
+        }
+
+        Set<String> referenced = new HashSet<>(storedFileRepo.findExistingBlobNames(names));
+        List<String> referencedUrls = new ArrayList<>();
+        referencedUrls.addAll(userRepo.findReferencedProfilePictureUrls(nameByUrl.keySet()));
+        referencedUrls.addAll(userRepo.findReferencedProfilePictureThumbnailUrls(nameByUrl.keySet()));
+        referencedUrls.addAll(studentRepo.findReferencedResumeUrls(nameByUrl.keySet()));
+        for (String url : referencedUrls) {
+            referenced.add(nameByUrl.get(url));
+        }
+
+        List<String> orphans = names.stream().filter(n -> !referenced.contains(n)).toList();
+        if (orphans.isEmpty()) {
+            return 0;
+        }
+
+        Instant now = Instant.now();
+        Integer inserted = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (String name : orphans) {
+                count += blobDeletionRepo.enqueue(name, now);
+            }
+            return count;
+        });
+        return inserted == null ? 0 : inserted;
+    }
+
+    private Duration backoff(int attempts) {
+        long seconds = 30L << Math.min(attempts, 20);
+        return seconds > MAX_BACKOFF.getSeconds() ? MAX_BACKOFF : Duration.ofSeconds(seconds);
+    }
+
+    private String truncate(String value) {
+        return value.length() > 1000 ? value.substring(0, 1000) : value;
+    }
+}
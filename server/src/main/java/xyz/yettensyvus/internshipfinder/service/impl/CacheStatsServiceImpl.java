@@ -0,0 +1,58 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import xyz.yettensyvus.internshipfinder.dto.CacheRegionStatsDTO;
+import xyz.yettensyvus.internshipfinder.service.CacheStatsService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class CacheStatsServiceImpl implements CacheStatsService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public List<CacheRegionStatsDTO> getRegionStats() {
+        Statistics statistics = statistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return List.of();
+        }
+
+        List<CacheRegionStatsDTO> result = new ArrayList<>();
+        String[] regions = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regions);
+        for (String region : regions) {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+            if (stats == null) {
+                continue;
+            }
+            long hits = stats.getHitCount();
+            long misses = stats.getMissCount();
+            result.add(new CacheRegionStatsDTO(
+                    region,
+                    hits,
+                    misses,
+                    stats.getPutCount(),
+                    hits + misses == 0 ? 0 : (double) hits / (hits + misses)
+            ));
+        }
+        return result;
+    }
+
+    @Override
+    public void resetStats() {
+        statistics().clear();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
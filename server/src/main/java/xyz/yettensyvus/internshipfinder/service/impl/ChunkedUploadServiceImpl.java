@@ -0,0 +1,238 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import xyz.yettensyvus.internshipfinder.dto.UploadSessionCreateRequest;
+import xyz.yettensyvus.internshipfinder.dto.UploadSessionDTO;
+import xyz.yettensyvus.internshipfinder.enums.Role;
+import xyz.yettensyvus.internshipfinder.enums.UploadPurpose;
+import xyz.yettensyvus.internshipfinder.model.UploadSession;
+import xyz.yettensyvus.internshipfinder.model.User;
+import xyz.yettensyvus.internshipfinder.repository.UploadSessionRepository;
+import xyz.yettensyvus.internshipfinder.repository.UserRepository;
+import xyz.yettensyvus.internshipfinder.service.ChunkedUploadService;
+import xyz.yettensyvus.internshipfinder.service.FileUploadService;
+import xyz.yettensyvus.internshipfinder.service.SchedulerLockService;
+import xyz.yettensyvus.internshipfinder.service.StorageBackend;
+import xyz.yettensyvus.internshipfinder.service.StudentService;
+
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class ChunkedUploadServiceImpl implements ChunkedUploadService {
+
+    @Autowired
+    private UploadSessionRepository sessionRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private StorageBackend storageBackend;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Value("${app.uploads.chunk-size-bytes:4194304}")
+    private long chunkSize;
+
+    @Value("${app.uploads.max-size-bytes:104857600}")
+    private long maxSize;
+
+    @Value("${app.uploads.session-ttl-hours:24}")
+    private long sessionTtlHours;
+
+    @Override
+    public UploadSessionDTO createSession(String email, UploadSessionCreateRequest req) {
+        User user = getUserByEmail(email);
+
+        if (req.getTotalSize() > maxSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "File too large");
+        }
+
+        // Resumes are the only uploads something references and eventually releases
+        UploadPurpose purpose = req.getPurpose() == null ? UploadPurpose.RESUME : req.getPurpose();
+        if (user.getRole() != Role.STUDENT) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied");
+        }
+
+        String id = UUID.randomUUID().toString();
+        String objectName = "resumes/" + Instant.now().toEpochMilli() + "-" + id + extensionOf(req.getFileName());
+
+        Instant now = Instant.now();
+        UploadSession session = new UploadSession(
+                id,
+                user.getId(),
+                objectName,
+                req.getFileName(),
+                req.getContentType(),
+                purpose,
+                req.getTotalSize(),
+                chunkSize,
+                0,
+                new ResumableSha256().saveState(),
+                now,
+                now.plus(Duration.ofHours(sessionTtlHours))
+        );
+
+        return toDto(sessionRepo.save(session), null);
+    }
+
+    @Override
+    public UploadSessionDTO getSession(String email, String sessionId) {
+        return toDto(getOwnedSession(email, sessionId), null);
+    }
+
+    @Override
+    public UploadSessionDTO uploadChunk(String email, String sessionId, long offset, long length, InputStream content) {
+        UploadSession session = getOwnedSession(email, sessionId);
+
+        if (offset != session.getUploadedBytes()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Expected offset " + session.getUploadedBytes());
+        }
+        long expectedLength = Math.min(session.getChunkSize(), session.getTotalSize() - offset);
+        if (length <= 0 || length != expectedLength) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Chunk must be " + expectedLength + " bytes");
+        }
+
+        int index = (int) (offset / session.getChunkSize());
+        // Hashed while it is staged, so completing the upload never reads the assembled file back
+        ResumableSha256 sha = ResumableSha256.restore(session.getHashState());
+        storageBackend.stageChunk(session.getObjectName(), session.getId(), index, offset, new DigestInputStream(content, sha), length);
+
+        if (sessionRepo.advance(session.getId(), offset, offset + length, sha.saveState()) == 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Chunk already uploaded");
+        }
+        session.setUploadedBytes(offset + length);
+        return toDto(session, null);
+    }
+
+    @Override
+    public UploadSessionDTO complete(String email, String sessionId) {
+        UploadSession session = getOwnedSession(email, sessionId);
+
+        if (session.getUploadedBytes() != session.getTotalSize()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload incomplete");
+        }
+
+        int chunkCount = (int) ((session.getTotalSize() + session.getChunkSize() - 1) / session.getChunkSize());
+        String hash = HexFormat.of().formatHex(ResumableSha256.restore(session.getHashState()).digest());
+
+        // Chunks are committed straight to the content address, and only when that content is not stored yet;
+        // the reference, the session and the resume swap then change together in one short transaction
+        AtomicBoolean committed = new AtomicBoolean();
+        String readUrl = fileUploadService.storeDeduplicated(hash, session.getTotalSize(), session.getFileName(), session.getContentType(),
+                blobName -> {
+                    storageBackend.commitChunks(session.getObjectName(), session.getId(), chunkCount, session.getContentType(), blobName);
+                    committed.set(true);
+                },
+                storedUrl -> {
+                    if (sessionRepo.deleteCompleted(session.getId()) == 0) {
+                        throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload already completed");
+                    }
+                    return studentService.attachResumeForLoggedInUser(storedUrl);
+                });
+
+        if (!committed.get()) {
+            storageBackend.abortChunks(session.getObjectName(), session.getId());
+        }
+
+        UploadSessionDTO dto = toDto(session, readUrl);
+        dto.setCompleted(true);
+        return dto;
+    }
+
+    @Override
+    public void abort(String email, String sessionId) {
+        UploadSession session = getOwnedSession(email, sessionId);
+        storageBackend.abortChunks(session.getObjectName(), session.getId());
+        sessionRepo.delete(session);
+    }
+
+    @Scheduled(cron = "${app.uploads.cleanup-cron:0 0 * * * *}")
+    public void cleanupExpired() {
+        schedulerLockService.runLocked("upload-session-cleanup", this::discardExpired);
+    }
+
+    private void discardExpired() {
+        while (true) {
+            schedulerLockService.ensureLeaseHeld();
+            List<UploadSession> expired = sessionRepo.findTop100ByExpiresAtBefore(Instant.now());
+            if (expired.isEmpty()) {
+                return;
+            }
+            for (UploadSession session : expired) {
+                try {
+                    storageBackend.abortChunks(session.getObjectName(), session.getId());
+                } catch (Exception ex) {
+                    System.err.println("Failed to discard upload session: " + session.getId() + " | " + ex.getMessage());
+                }
+            }
+            sessionRepo.deleteAllInBatch(expired);
+        }
+    }
+
+    private UploadSession getOwnedSession(String email, String sessionId) {
+        User user = getUserByEmail(email);
+        UploadSession session = sessionRepo.findById(sessionId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Upload session not found"));
+        if (!session.getUserId().equals(user.getId())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Upload session not found");
+        }
+        if (session.getExpiresAt().isBefore(Instant.now())) {
+            throw new ResponseStatusException(HttpStatus.GONE, "Upload session expired");
+        }
+        return session;
+    }
+
+    private User getUserByEmail(String email) {
+        return userRepo.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    private UploadSessionDTO toDto(UploadSession s, String url) {
+        return new UploadSessionDTO(
+                s.getId(),
+                s.getFileName(),
+                s.getPurpose(),
+                s.getTotalSize(),
+                s.getUploadedBytes(),
+                s.getChunkSize(),
+                s.getExpiresAt(),
+                false,
+                url
+        );
+    }
+
+    private String extensionOf(String fileName) {
+        if (fileName == null) {
+            return "";
+        }
+        int idx = fileName.lastIndexOf('.');
+        if (idx >= 0 && idx < fileName.length() - 1) {
+            String ext = fileName.substring(idx).toLowerCase(Locale.ROOT);
+            return ext.matches("\\.[a-z0-9]{1,10}") ? ext : "";
+        }
+        return "";
+    }
+}
@@ -0,0 +1,121 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import xyz.yettensyvus.internshipfinder.enums.Role;
+import xyz.yettensyvus.internshipfinder.repository.*;
+import xyz.yettensyvus.internshipfinder.service.DashboardStatsService;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the admin dashboard totals in memory. Write paths report their changes once the surrounding
+ * transaction commits, and {@link #reconcile()} periodically replaces the counters with real counts so
+ * any drift (rolled back work, writes that bypass the services) is bounded by the reconcile interval.
+ */
+@Service
+public class DashboardStatsServiceImpl implements DashboardStatsService {
+
+    @Autowired private StudentRepository studentRepo;
+    @Autowired private RecruiterRepository recruiterRepo;
+    @Autowired private UserRepository userRepo;
+    @Autowired private JobRepository jobRepo;
+    @Autowired private ApplicationRepository applicationRepo;
+
+    private final AtomicLong students = new AtomicLong();
+    private final AtomicLong recruiters = new AtomicLong();
+    private final AtomicLong jobs = new AtomicLong();
+    private final AtomicLong users = new AtomicLong();
+    private final AtomicLong applications = new AtomicLong();
+
+    private volatile boolean initialized;
+
+    @Override
+    public Map<String, Object> getStats() {
+        if (!initialized) {
+            reconcile();
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalStudents", Math.max(0, students.get()));
+        stats.put("totalRecruiters", Math.max(0, recruiters.get()));
+        stats.put("totalJobs", Math.max(0, jobs.get()));
+        stats.put("totalUsers", Math.max(0, users.get()));
+        stats.put("totalApplications", Math.max(0, applications.get()));
+        return stats;
+    }
+
+    @Override
+    public void userCreated(Role role) {
+        afterCommit(() -> {
+            users.incrementAndGet();
+            if (role == Role.STUDENT) {
+                students.incrementAndGet();
+            } else if (role == Role.RECRUITER) {
+                recruiters.incrementAndGet();
+            }
+        });
+    }
+
+    @Override
+    public void studentProfileAdded() {
+        afterCommit(students::incrementAndGet);
+    }
+
+    @Override
+    public void recruiterProfileAdded() {
+        afterCommit(recruiters::incrementAndGet);
+    }
+
+    @Override
+    public void recordDeletion(long users, long students, long recruiters, long jobs, long applications) {
+        afterCommit(() -> {
+            this.users.addAndGet(-users);
+            this.students.addAndGet(-students);
+            this.recruiters.addAndGet(-recruiters);
+            this.jobs.addAndGet(-jobs);
+            this.applications.addAndGet(-applications);
+        });
+    }
+
+    @Override
+    public void jobsPosted(long count) {
+        afterCommit(() -> jobs.addAndGet(count));
+    }
+
+    @Override
+    public void applicationSubmitted() {
+        afterCommit(applications::incrementAndGet);
+    }
+
+    // Resets this instance's in-memory counters, so every instance runs it; not cluster-locked.
+    @Override
+    @Scheduled(fixedDelayString = "${app.admin.stats.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        students.set(studentRepo.count());
+        recruiters.set(recruiterRepo.count());
+        jobs.set(jobRepo.count());
+        users.set(userRepo.count());
+        applications.set(applicationRepo.count());
+        initialized = true;
+    }
+
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
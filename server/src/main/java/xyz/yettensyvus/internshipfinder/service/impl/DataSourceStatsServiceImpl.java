@@ -0,0 +1,51 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import xyz.yettensyvus.internshipfinder.config.ReplicaRoutingDataSource;
+import xyz.yettensyvus.internshipfinder.dto.DataSourcePoolStatsDTO;
+import xyz.yettensyvus.internshipfinder.service.DataSourceStatsService;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Connection pool figures per routing target; a single primary entry when no replica is configured.
+ */
+@Service
+public class DataSourceStatsServiceImpl implements DataSourceStatsService {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Override
+    public List<DataSourcePoolStatsDTO> getPoolStats() {
+        if (dataSource instanceof ReplicaRoutingDataSource router) {
+            return List.of(
+                    stats("primary", router.getPrimary(),
+                            router.getConnectionCount(ReplicaRoutingDataSource.Target.PRIMARY), true, null),
+                    stats("replica", router.getReplica(),
+                            router.getConnectionCount(ReplicaRoutingDataSource.Target.REPLICA),
+                            router.isReplicaUsable(), router.getLagMs() < 0 ? null : router.getLagMs())
+            );
+        }
+
+        try {
+            return List.of(stats("primary", dataSource.unwrap(HikariDataSource.class), 0, true, null));
+        } catch (SQLException ex) {
+            return List.of();
+        }
+    }
+
+    private DataSourcePoolStatsDTO stats(String target, HikariDataSource pool, long routed, boolean usable, Long lagMs) {
+        HikariPoolMXBean mx = pool.getHikariPoolMXBean();
+        if (mx == null) {
+            return new DataSourcePoolStatsDTO(target, 0, 0, 0, 0, routed, usable, lagMs);
+        }
+        return new DataSourcePoolStatsDTO(target, mx.getActiveConnections(), mx.getIdleConnections(),
+                mx.getTotalConnections(), mx.getThreadsAwaitingConnection(), routed, usable, lagMs);
+    }
+}
@@ -0,0 +1,101 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import xyz.yettensyvus.internshipfinder.enums.CacheEntity;
+import xyz.yettensyvus.internshipfinder.model.Job;
+import xyz.yettensyvus.internshipfinder.model.Recruiter;
+import xyz.yettensyvus.internshipfinder.model.User;
+import xyz.yettensyvus.internshipfinder.service.CacheInvalidationBus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the second-level cache consistent across instances. Inserts, updates and deletes of cached entities made
+ * through the persistence context are published on the bus right before the transaction commits, on the same
+ * connection, so nothing is announced for a rollback. Events from other nodes evict the matching entity entries
+ * and the query result region, whose per-table update timestamps are only maintained locally.
+ *
+ * <p>Bulk JPQL updates and deletes bypass these events; their callers publish explicitly.
+ */
+@Component
+public class EntityCacheSynchronizer implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final Map<Class<?>, CacheEntity> CACHED = Map.of(
+            User.class, CacheEntity.USER,
+            Recruiter.class, CacheEntity.RECRUITER,
+            Job.class, CacheEntity.JOB
+    );
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private SessionFactoryImplementor sessionFactory;
+
+    @PostConstruct
+    public void init() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+
+        CACHED.forEach((type, entity) -> cacheInvalidationBus.subscribe(entity, ids -> evict(type, ids)));
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        changed(event.getEntity(), event.getId(), event.getSession());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        changed(event.getEntity(), event.getId(), event.getSession());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        changed(event.getEntity(), event.getId(), event.getSession());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void changed(Object entity, Object id, EventSource session) {
+        CacheEntity type = CACHED.get(entity.getClass());
+        if (type == null || !(id instanceof Long value)) {
+            return;
+        }
+
+        session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) s ->
+                s.doWork(connection -> cacheInvalidationBus.publish(connection, type, List.of(value))));
+    }
+
+    private void evict(Class<?> type, Set<Long> ids) {
+        Cache cache = sessionFactory.getCache();
+        if (ids.isEmpty()) {
+            cache.evictEntityData(type);
+        } else {
+            for (Long id : ids) {
+                cache.evictEntityData(type, id);
+            }
+        }
+        cache.evictDefaultQueryRegion();
+    }
+}
@@ -1,142 +1,212 @@
 package xyz.yettensyvus.internshipfinder.service.impl;
 
-import com.azure.storage.blob.BlobClient;
-import com.azure.storage.blob.BlobContainerClient;
-import com.azure.storage.blob.models.BlobHttpHeaders;
-import com.azure.storage.blob.sas.BlobSasPermission;
-import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import xyz.yettensyvus.internshipfinder.repository.BlobDeletionRepository;
+import xyz.yettensyvus.internshipfinder.repository.StoredFileRepository;
 import xyz.yettensyvus.internshipfinder.service.FileUploadService;
+import xyz.yettensyvus.internshipfinder.service.StorageBackend;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.net.URI;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
-import java.time.OffsetDateTime;
+import java.util.HexFormat;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Service
 public class FileUploadServiceImpl implements FileUploadService {
 
     @Autowired
-    private BlobContainerClient blobContainerClient;
+    private StorageBackend storageBackend;
 
     @Autowired
-    private Environment environment;
+    private StoredFileRepository storedFileRepo;
+
+    @Autowired
+    private BlobDeletionRepository blobDeletionRepo;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    public static final String CONTENT_ADDRESSED_PREFIX = "cas/";
 
     @Override
     public String uploadFile(MultipartFile file, String folder) {
         try {
-            String originalName = file.getOriginalFilename();
-            String ext = "";
-            if (originalName != null) {
-                int idx = originalName.lastIndexOf('.');
-                if (idx >= 0 && idx < originalName.length() - 1) {
-                    ext = originalName.substring(idx);
-                }
-            }
+            String ext = extensionOf(file.getOriginalFilename());
 
             String safeFolder = (folder == null || folder.isBlank()) ? "uploads" : folder;
             String blobName = safeFolder + "/" + Instant.now().toEpochMilli() + "-" + UUID.randomUUID() + ext;
 
-            BlobClient blobClient = blobContainerClient.getBlobClient(blobName);
-
-            byte[] bytes = file.getBytes();
-            blobClient.upload(new ByteArrayInputStream(bytes), bytes.length, true);
-
-            String contentType = file.getContentType();
-            if (contentType != null && !contentType.isBlank()) {
-                blobClient.setHttpHeaders(new BlobHttpHeaders().setContentType(contentType));
+            try (InputStream in = file.getInputStream()) {
+                return storageBackend.upload(blobName, in, file.getSize(), file.getContentType());
             }
-
-            return blobClient.getBlobUrl();
         } catch (IOException e) {
             throw new RuntimeException("Upload failed", e);
         }
     }
 
     @Override
-    public String toReadSasUrl(String storedUrlOrBlobName) {
-        if (storedUrlOrBlobName == null || storedUrlOrBlobName.isBlank()) {
-            return storedUrlOrBlobName;
+    public String uploadBytes(byte[] content, String blobName, String contentType) {
+        return storageBackend.upload(blobName, new ByteArrayInputStream(content), content.length, contentType);
+    }
+
+    /**
+     * Hashes and stores the file under its content address before any transaction starts, then counts the
+     * reference and runs {@code attach} with the stored URL in one short transaction.
+     */
+    @Override
+    public <T> T uploadDeduplicated(MultipartFile file, Function<String, T> attach) {
+        String hash;
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            hash = HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Upload failed", e);
         }
 
-        String blobName = extractBlobName(storedUrlOrBlobName);
-        BlobClient blobClient = blobContainerClient.getBlobClient(blobName);
+        return storeDeduplicated(hash, file.getSize(), file.getOriginalFilename(), file.getContentType(), blobName -> {
+            try (InputStream in = file.getInputStream()) {
+                storageBackend.upload(blobName, in, file.getSize(), file.getContentType());
+            } catch (IOException e) {
+                throw new RuntimeException("Upload failed", e);
+            }
+        }, attach);
+    }
+
+    /**
+     * Stores content whose SHA-256 is already known. {@code writer} is called with the content address only when
+     * the content is not stored yet, outside any transaction; the reference is counted in the short transaction
+     * that runs {@code attach}.
+     */
+    @Override
+    public <T> T storeDeduplicated(String hash, long size, String fileName, String contentType,
+                                    Consumer<String> writer, Function<String, T> attach) {
+        if (storedFileRepo.existsByContentHash(hash)) {
+            AtomicBoolean counted = new AtomicBoolean();
+            T result = transactionTemplate.execute(status -> {
+                if (storedFileRepo.incrementRefCount(hash) == 0) {
+                    return null;
+                }
+                counted.set(true);
+                return attach.apply(existingUrl(hash));
+            });
+            if (counted.get()) {
+                return result;
+            }
+            // The last reference went away in the meantime, so the existing copy may already be queued for deletion
+        }
 
-        BlobSasPermission permission = new BlobSasPermission().setReadPermission(true);
-        OffsetDateTime expiry = OffsetDateTime.now().plus(getSasExpiry());
+        String blobName = CONTENT_ADDRESSED_PREFIX + hash + extensionOf(fileName);
+        // Waits for a collector already deleting this name, and stops a queued deletion from removing the new copy
+        blobDeletionRepo.cancel(blobName);
+        writer.accept(blobName);
 
-        BlobServiceSasSignatureValues values = new BlobServiceSasSignatureValues(expiry, permission);
-        String sas = blobClient.generateSas(values);
-        return blobClient.getBlobUrl() + "?" + sas;
+        return transactionTemplate.execute(status -> {
+            String stored = storedFileRepo.insertOrIncrement(hash, blobName, size, contentType, Instant.now());
+            if (!stored.equals(blobName)) {
+                // The same content was registered first under another extension; this copy has no reference
+                blobDeletionRepo.enqueue(blobName, Instant.now());
+            }
+            return attach.apply(storageBackend.toStableUrl(stored));
+        });
     }
 
     @Override
-    public String toStableBlobUrl(String storedUrlOrBlobName) {
+    public void retainFile(String storedUrlOrBlobName) {
         if (storedUrlOrBlobName == null || storedUrlOrBlobName.isBlank()) {
-            return storedUrlOrBlobName;
+            return;
         }
 
-        String blobName = extractBlobName(storedUrlOrBlobName);
-        return blobContainerClient.getBlobClient(blobName).getBlobUrl();
+        String blobName = storageBackend.extractObjectName(storedUrlOrBlobName);
+        if (blobName.startsWith(CONTENT_ADDRESSED_PREFIX) && storedFileRepo.incrementRefCountByBlobName(blobName) == 0) {
+            throw new RuntimeException("File not found");
+        }
     }
 
     @Override
-    public void deleteFileIfExists(String storedUrlOrBlobName) {
+    @Transactional
+    public void releaseFile(String storedUrlOrBlobName) {
         if (storedUrlOrBlobName == null || storedUrlOrBlobName.isBlank()) {
             return;
         }
 
-        String blobName = extractBlobName(storedUrlOrBlobName);
-        BlobClient blobClient = blobContainerClient.getBlobClient(blobName);
-        blobClient.deleteIfExists();
+        String blobName = storageBackend.extractObjectName(storedUrlOrBlobName);
+        if (blobName.startsWith(CONTENT_ADDRESSED_PREFIX)) {
+            storedFileRepo.decrementRefCount(blobName);
+            if (storedFileRepo.deleteUnreferenced(blobName) == 0) {
+                return;
+            }
+        }
+
+        blobDeletionRepo.enqueue(blobName, Instant.now());
     }
 
-    private Duration getSasExpiry() {
-        String raw = environment.getProperty("azure.storage.sas.expiry-minutes");
-        if (raw == null || raw.isBlank()) {
-            return Duration.ofMinutes(60);
+    @Override
+    @Transactional
+    public void scheduleDeletion(String storedUrlOrBlobName) {
+        if (storedUrlOrBlobName == null || storedUrlOrBlobName.isBlank()) {
+            return;
         }
-        try {
-            long minutes = Long.parseLong(raw.trim());
-            if (minutes <= 0) {
-                return Duration.ofMinutes(60);
-            }
-            return Duration.ofMinutes(minutes);
-        } catch (NumberFormatException ex) {
-            return Duration.ofMinutes(60);
+
+        blobDeletionRepo.enqueue(storageBackend.extractObjectName(storedUrlOrBlobName), Instant.now());
+    }
+
+    @Override
+    public String toReadSasUrl(String storedUrlOrBlobName) {
+        if (storedUrlOrBlobName == null || storedUrlOrBlobName.isBlank()) {
+            return storedUrlOrBlobName;
         }
+
+        return storageBackend.toSignedReadUrl(storageBackend.extractObjectName(storedUrlOrBlobName));
     }
 
-    private String extractBlobName(String storedUrlOrBlobName) {
-        if (!storedUrlOrBlobName.startsWith("http://") && !storedUrlOrBlobName.startsWith("https://")) {
+    @Override
+    public String toStableBlobUrl(String storedUrlOrBlobName) {
+        if (storedUrlOrBlobName == null || storedUrlOrBlobName.isBlank()) {
             return storedUrlOrBlobName;
         }
 
-        try {
-            URI uri = URI.create(storedUrlOrBlobName);
-            String path = uri.getPath();
-            if (path == null) {
-                return storedUrlOrBlobName;
-            }
+        return storageBackend.toStableUrl(storageBackend.extractObjectName(storedUrlOrBlobName));
+    }
 
-            String normalized = path.startsWith("/") ? path.substring(1) : path;
-            String container = blobContainerClient.getBlobContainerName();
-            String prefix = container + "/";
-            if (normalized.startsWith(prefix)) {
-                normalized = normalized.substring(prefix.length());
-            }
+    @Override
+    public void deleteFileIfExists(String storedUrlOrBlobName) {
+        if (storedUrlOrBlobName == null || storedUrlOrBlobName.isBlank()) {
+            return;
+        }
 
-            return URLDecoder.decode(normalized, StandardCharsets.UTF_8);
-        } catch (IllegalArgumentException ex) {
-            return storedUrlOrBlobName;
+        storageBackend.deleteIfExists(storageBackend.extractObjectName(storedUrlOrBlobName));
+    }
+
+    private String existingUrl(String hash) {
+        return storedFileRepo.findByContentHash(hash)
+                .map(f -> storageBackend.toStableUrl(f.getBlobName()))
+                .orElseThrow(() -> new RuntimeException("Upload failed"));
+    }
+
+    private String extensionOf(String originalName) {
+        if (originalName == null) {
+            return "";
+        }
+        int idx = originalName.lastIndexOf('.');
+        if (idx >= 0 && idx < originalName.length() - 1) {
+            return originalName.substring(idx).toLowerCase();
         }
+        return "";
     }
 }
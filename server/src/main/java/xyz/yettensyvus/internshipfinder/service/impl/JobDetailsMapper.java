@@ -0,0 +1,58 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import xyz.yettensyvus.internshipfinder.dto.JobDetailsResponse;
+import xyz.yettensyvus.internshipfinder.model.Job;
+import xyz.yettensyvus.internshipfinder.service.FileUploadService;
+import xyz.yettensyvus.internshipfinder.service.ProfilePictureThumbnailService;
+
+/**
+ * Maps a job (with its recruiter and recruiter user already fetched) to the response shape. Signing the recruiter
+ * picture URLs is pure CPU work, so callers run this after their read transaction has returned its connection.
+ */
+@Component
+public class JobDetailsMapper {
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private ProfilePictureThumbnailService thumbnailService;
+
+    public JobDetailsResponse toJobDetails(Job job) {
+        String recruiterCompany = null;
+        String recruiterEmail = null;
+        String recruiterProfilePictureUrl = null;
+        String recruiterProfilePictureThumbnailSas = null;
+        if (job.getRecruiter() != null) {
+            recruiterCompany = job.getRecruiter().getCompanyName();
+            if (job.getRecruiter().getUser() != null) {
+                recruiterEmail = job.getRecruiter().getUser().getEmail();
+                recruiterProfilePictureUrl = job.getRecruiter().getUser().getProfilePictureUrl();
+                recruiterProfilePictureThumbnailSas = thumbnailService.toThumbnailReadSasUrl(job.getRecruiter().getUser());
+            }
+        }
+
+        String recruiterProfilePictureSas = fileUploadService.toReadSasUrl(recruiterProfilePictureUrl);
+
+        return new JobDetailsResponse(
+                job.getId(),
+                job.getTitle(),
+                job.getCompany(),
+                job.getLocation(),
+                job.getDescription(),
+                job.getDeadline(),
+                job.getType(),
+                job.isPaid(),
+                job.getDuration(),
+                job.getCompensation(),
+                job.isActive(),
+                job.getCreatedAt(),
+                recruiterCompany,
+                recruiterEmail,
+                recruiterProfilePictureSas,
+                recruiterProfilePictureThumbnailSas
+        );
+    }
+}
@@ -0,0 +1,301 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import xyz.yettensyvus.internshipfinder.dto.JobImportErrorDTO;
+import xyz.yettensyvus.internshipfinder.dto.JobImportResultDTO;
+import xyz.yettensyvus.internshipfinder.dto.JobImportRow;
+import xyz.yettensyvus.internshipfinder.enums.DataFormat;
+import xyz.yettensyvus.internshipfinder.enums.NotificationType;
+import xyz.yettensyvus.internshipfinder.model.Recruiter;
+import xyz.yettensyvus.internshipfinder.repository.RecruiterRepository;
+import xyz.yettensyvus.internshipfinder.service.DashboardStatsService;
+import xyz.yettensyvus.internshipfinder.service.JobImportService;
+import xyz.yettensyvus.internshipfinder.service.NotificationService;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+public class JobImportServiceImpl implements JobImportService {
+
+    private static final String INSERT_SQL = "insert into jobs (title, company, location, description, deadline, type, " +
+            "paid, duration, compensation, created_at, is_active, recruiter_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?)";
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    @Autowired private RecruiterRepository recruiterRepo;
+    @Autowired private NotificationService notificationService;
+    @Autowired private DashboardStatsService dashboardStatsService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private Validator validator;
+
+    @Value("${app.jobs.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.jobs.import.max-rows:5000}")
+    private int maxRows;
+
+    @Override
+    @Transactional
+    public JobImportResultDTO importJobs(String recruiterEmail, DataFormat format, InputStream in) throws IOException {
+        Recruiter recruiter = recruiterRepo.findByUserEmail(recruiterEmail);
+        if (recruiter == null) throw new RuntimeException("Recruiter not found");
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        RowSource source = format == DataFormat.NDJSON ? new NdjsonRowSource(reader) : new CsvRowSource(reader);
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        List<JobImportErrorDTO> errors = new ArrayList<>();
+        long received = 0;
+        long failed = 0;
+        long imported = 0;
+
+        while (true) {
+            ParsedRow parsed = source.next();
+            if (parsed == null) {
+                break;
+            }
+            received++;
+            if (received > maxRows) {
+                throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "At most " + maxRows + " jobs per import");
+            }
+
+            String error = parsed.error != null ? parsed.error : validate(parsed.row);
+            if (error != null) {
+                failed++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new JobImportErrorDTO(received, error));
+                }
+                continue;
+            }
+
+            batch.add(toParams(parsed.row, now, recruiter.getId()));
+            if (batch.size() >= batchSize) {
+                imported += flush(batch);
+            }
+        }
+        imported += flush(batch);
+
+        if (imported > 0) {
+            dashboardStatsService.jobsPosted(imported);
+
+            String company = recruiter.getCompanyName() == null ? "" : recruiter.getCompanyName();
+            notificationService.createForAdmins(
+                    NotificationType.JOB_POSTED,
+                    "Jobs imported",
+                    "A recruiter imported " + imported + (imported == 1 ? " job" : " jobs")
+                            + (company.isBlank() ? "" : (" (" + company + ")")),
+                    recruiterEmail,
+                    null,
+                    null
+            );
+        }
+
+        return new JobImportResultDTO(received, imported, failed, failed > errors.size(), errors);
+    }
+
+    private String validate(JobImportRow row) {
+        Set<ConstraintViolation<JobImportRow>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private Object[] toParams(JobImportRow row, Timestamp now, Long recruiterId) {
+        boolean paid = Boolean.TRUE.equals(row.getPaid())
+                || (row.getType() != null && row.getType().equalsIgnoreCase("JOB"));
+        return new Object[]{
+                row.getTitle().trim(),
+                row.getCompany().trim(),
+                blankToNull(row.getLocation()),
+                row.getDescription(),
+                blankToNull(row.getDeadline()),
+                blankToNull(row.getType()),
+                paid,
+                blankToNull(row.getDuration()),
+                paid ? blankToNull(row.getCompensation()) : null,
+                now,
+                recruiterId
+        };
+    }
+
+    private int flush(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int size = batch.size();
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        batch.clear();
+        return size;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private record ParsedRow(JobImportRow row, String error) {
+    }
+
+    private interface RowSource {
+        ParsedRow next() throws IOException;
+    }
+
+    private final class NdjsonRowSource implements RowSource {
+        private final BufferedReader reader;
+        private final ObjectReader rowReader = objectMapper.readerFor(JobImportRow.class);
+
+        private NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            try {
+                return new ParsedRow(rowReader.readValue(line), null);
+            } catch (JsonProcessingException e) {
+                return new ParsedRow(null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * Minimal RFC 4180 reader: header row required, quoted fields may contain commas, quotes and line breaks.
+     */
+    private static final class CsvRowSource implements RowSource {
+        private final BufferedReader reader;
+        private Map<String, Integer> header;
+
+        private CsvRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            if (header == null) {
+                List<String> names = readRecord();
+                if (names == null) {
+                    return null;
+                }
+                header = new HashMap<>();
+                for (int i = 0; i < names.size(); i++) {
+                    String name = names.get(i);
+                    if (i == 0 && name.startsWith("\uFEFF")) {
+                        name = name.substring(1);
+                    }
+                    header.put(name.trim().toLowerCase(Locale.ROOT), i);
+                }
+                if (!header.containsKey("title")) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header must include a title column");
+                }
+            }
+
+            List<String> record;
+            do {
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+            } while (record.size() == 1 && record.get(0).isBlank());
+
+            JobImportRow row = new JobImportRow(
+                    field(record, "title"),
+                    field(record, "company"),
+                    field(record, "location"),
+                    field(record, "description"),
+                    field(record, "deadline"),
+                    field(record, "type"),
+                    null,
+                    field(record, "duration"),
+                    field(record, "compensation")
+            );
+
+            String paid = field(record, "paid");
+            if (paid != null && !paid.isBlank()) {
+                switch (paid.trim().toLowerCase(Locale.ROOT)) {
+                    case "true", "yes", "1" -> row.setPaid(true);
+                    case "false", "no", "0" -> row.setPaid(false);
+                    default -> {
+                        return new ParsedRow(null, "Invalid paid value: " + paid);
+                    }
+                }
+            }
+            return new ParsedRow(row, null);
+        }
+
+        private String field(List<String> record, String name) {
+            Integer idx = header.get(name);
+            return idx == null || idx >= record.size() ? null : record.get(idx);
+        }
+
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            current.append('"');
+                        } else {
+                            quoted = false;
+                            if (next != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        current.append((char) c);
+                    }
+                } else if (c == '"' && current.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    current.append((char) c);
+                }
+            }
+
+            if (!any) {
+                return null;
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+}
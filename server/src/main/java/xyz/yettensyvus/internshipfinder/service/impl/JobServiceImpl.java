@@ -1,7 +1,11 @@
 package xyz.yettensyvus.internshipfinder.service.impl;
 
+import jakarta.annotation.PostConstruct;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import xyz.yettensyvus.internshipfinder.dto.JobDetailsResponse;
 import xyz.yettensyvus.internshipfinder.dto.RecruiterJobUpdateRequest;
 import xyz.yettensyvus.internshipfinder.enums.NotificationType;
@@ -9,7 +13,8 @@ import xyz.yettensyvus.internshipfinder.model.Job;
 import xyz.yettensyvus.internshipfinder.model.Recruiter;
 import xyz.yettensyvus.internshipfinder.repository.JobRepository;
 import xyz.yettensyvus.internshipfinder.repository.RecruiterRepository;
-import xyz.yettensyvus.internshipfinder.service.FileUploadService;
+import xyz.yettensyvus.internshipfinder.security.PrincipalContextResolver;
+import xyz.yettensyvus.internshipfinder.service.DashboardStatsService;
 import xyz.yettensyvus.internshipfinder.service.JobService;
 import xyz.yettensyvus.internshipfinder.service.NotificationService;
 
@@ -29,43 +34,30 @@ public class JobServiceImpl implements JobService {
     private NotificationService notificationService;
 
     @Autowired
-    private FileUploadService fileUploadService;
-
-    private JobDetailsResponse toJobDetails(Job job) {
-        String recruiterCompany = null;
-        String recruiterEmail = null;
-        String recruiterProfilePictureUrl = null;
-        if (job.getRecruiter() != null) {
-            recruiterCompany = job.getRecruiter().getCompanyName();
-            if (job.getRecruiter().getUser() != null) {
-                recruiterEmail = job.getRecruiter().getUser().getEmail();
-                recruiterProfilePictureUrl = job.getRecruiter().getUser().getProfilePictureUrl();
-            }
-        }
+    private JobDetailsMapper jobDetailsMapper;
 
-        String recruiterProfilePictureSas = fileUploadService.toReadSasUrl(recruiterProfilePictureUrl);
-
-        return new JobDetailsResponse(
-                job.getId(),
-                job.getTitle(),
-                job.getCompany(),
-                job.getLocation(),
-                job.getDescription(),
-                job.getDeadline(),
-                job.getType(),
-                job.isPaid(),
-                job.getDuration(),
-                job.getCompensation(),
-                job.isActive(),
-                job.getCreatedAt(),
-                recruiterCompany,
-                recruiterEmail,
-                recruiterProfilePictureSas
-        );
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Autowired
+    private PrincipalContextResolver principalResolver;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private TransactionTemplate readOnlyTx;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
     }
 
     @Override
-    public Job postJob(Job job, String email) {
+    public JobDetailsResponse postJob(Job job, String email) {
         Recruiter recruiter = recruiterRepo.findByUserEmail(email);
         if (recruiter == null) throw new RuntimeException("Recruiter not found");
 
@@ -77,6 +69,7 @@ public class JobServiceImpl implements JobService {
         }
 
         Job saved = jobRepo.save(job);
+        dashboardStatsService.jobsPosted(1);
 
         String company = recruiter.getCompanyName() == null ? "" : recruiter.getCompanyName();
         notificationService.createForAdmins(
@@ -88,43 +81,50 @@ public class JobServiceImpl implements JobService {
                 null
         );
 
-        return saved;
+        return jobDetailsMapper.toJobDetails(saved);
     }
 
     @Override
-    public List<JobDetailsResponse> getJobsByRecruiterAsDetails(String email) {
-        return getJobsByRecruiter(email).stream().map(this::toJobDetails).collect(Collectors.toList());
+    public List<JobDetailsResponse> getActiveJobs(Boolean paid) {
+        List<Job> jobs = readOnlyTx.execute(status -> paid == null
+                ? jobRepo.findByIsActiveTrue()
+                : jobRepo.findByIsActiveTrueAndPaid(paid));
+        return jobs.stream().map(jobDetailsMapper::toJobDetails).collect(Collectors.toList());
     }
 
     @Override
-    public JobDetailsResponse getRecruiterJobDetails(String recruiterEmail, Long jobId) {
-        Recruiter recruiter = recruiterRepo.findByUserEmail(recruiterEmail);
-        if (recruiter == null) throw new RuntimeException("Recruiter not found");
-
-        Job job = jobRepo.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
+    public JobDetailsResponse getJobDetails(Long jobId) {
+        // Loaded by id and walked lazily so the job, recruiter and user all come out of the second-level cache
+        Job job = readOnlyTx.execute(status -> {
+            Job found = jobRepo.findById(jobId)
+                    .orElseThrow(() -> new RuntimeException("Job not found"));
+            if (found.getRecruiter() != null) {
+                Hibernate.initialize(found.getRecruiter().getUser());
+            }
+            return found;
+        });
+        return jobDetailsMapper.toJobDetails(job);
+    }
 
-        if (job.getRecruiter() == null || job.getRecruiter().getId() == null
-                || !job.getRecruiter().getId().equals(recruiter.getId())) {
-            throw new RuntimeException("Not allowed");
-        }
+    @Override
+    public List<JobDetailsResponse> getJobsByRecruiterAsDetails(String email) {
+        List<Job> jobs = jobRepo.findByRecruiterId(requireRecruiterId(email));
+        return jobs.stream().map(jobDetailsMapper::toJobDetails).collect(Collectors.toList());
+    }
 
-        return toJobDetails(job);
+    @Override
+    public JobDetailsResponse getRecruiterJobDetails(String recruiterEmail, Long jobId) {
+        Job job = readOnlyTx.execute(status -> findOwnedJob(recruiterEmail, jobId));
+        return jobDetailsMapper.toJobDetails(job);
     }
 
     @Override
     public JobDetailsResponse updateRecruiterJob(String recruiterEmail, Long jobId, RecruiterJobUpdateRequest req) {
-        Recruiter recruiter = recruiterRepo.findByUserEmail(recruiterEmail);
-        if (recruiter == null) throw new RuntimeException("Recruiter not found");
-
-        Job job = jobRepo.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
-
-        if (job.getRecruiter() == null || job.getRecruiter().getId() == null
-                || !job.getRecruiter().getId().equals(recruiter.getId())) {
-            throw new RuntimeException("Not allowed");
-        }
+        Job saved = transactionTemplate.execute(status -> applyUpdate(findOwnedJob(recruiterEmail, jobId), req));
+        return jobDetailsMapper.toJobDetails(saved);
+    }
 
+    private Job applyUpdate(Job job, RecruiterJobUpdateRequest req) {
         if (req.getTitle() != null) job.setTitle(req.getTitle());
         if (req.getCompany() != null) job.setCompany(req.getCompany());
         if (req.getLocation() != null) job.setLocation(req.getLocation());
@@ -150,15 +150,25 @@ public class JobServiceImpl implements JobService {
         }
         if (req.getActive() != null) job.setActive(req.getActive());
 
-        Job saved = jobRepo.save(job);
-        return toJobDetails(saved);
+        return jobRepo.save(job);
     }
 
-    @Override
-    public List<Job> getJobsByRecruiter(String email) {
-        Recruiter recruiter = recruiterRepo.findByUserEmail(email);
-        if (recruiter == null) throw new RuntimeException("Recruiter not found");
+    private Long requireRecruiterId(String email) {
+        Long recruiterId = principalResolver.require(email).recruiterId();
+        if (recruiterId == null) throw new RuntimeException("Recruiter not found");
+        return recruiterId;
+    }
+
+    private Job findOwnedJob(String recruiterEmail, Long jobId) {
+        Long recruiterId = requireRecruiterId(recruiterEmail);
 
-        return jobRepo.findByRecruiter(recruiter);
+        Job job = jobRepo.findWithRecruiterById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+
+        if (job.getRecruiter() == null || job.getRecruiter().getId() == null
+                || !job.getRecruiter().getId().equals(recruiterId)) {
+            throw new RuntimeException("Not allowed");
+        }
+        return job;
     }
 }
@@ -0,0 +1,252 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import xyz.yettensyvus.internshipfinder.service.StorageBackend;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+@Service
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local")
+public class LocalFileStorageBackend implements StorageBackend {
+
+    @Value("${app.storage.local.root-dir:./storage}")
+    private String rootDir;
+
+    @Value("${app.storage.local.public-base-url:http://localhost:8080/api/public/files}")
+    private String publicBaseUrl;
+
+    @Value("${app.storage.local.signing-secret:}")
+    private String signingSecret;
+
+    @Value("${app.storage.local.link-expiry-minutes:60}")
+    private long linkExpiryMinutes;
+
+    private static final String STAGING_DIR = ".uploads";
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (signingSecret == null || signingSecret.isBlank()) {
+            throw new IllegalStateException("Missing configuration: app.storage.local.signing-secret (or env STORAGE_LOCAL_SIGNING_SECRET)");
+        }
+        root = Paths.get(rootDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        if (publicBaseUrl.endsWith("/")) {
+            publicBaseUrl = publicBaseUrl.substring(0, publicBaseUrl.length() - 1);
+        }
+    }
+
+    @Override
+    public String upload(String objectName, InputStream content, long length, String contentType) {
+        Path target = resolve(objectName);
+        Path tmp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            tmp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+            try (ReadableByteChannel in = Channels.newChannel(content);
+                 FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = out.transferFrom(in, position, 1024 * 1024)) > 0) {
+                    position += transferred;
+                }
+                out.force(false);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return toStableUrl(objectName);
+        } catch (IOException e) {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+            throw new UncheckedIOException("Upload failed", e);
+        }
+    }
+
+    @Override
+    public InputStream openRead(String objectName) {
+        try {
+            return Files.newInputStream(resolve(objectName));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Read failed", e);
+        }
+    }
+
+    @Override
+    public String toStableUrl(String objectName) {
+        return publicBaseUrl + "/" + objectName;
+    }
+
+    @Override
+    public String toSignedReadUrl(String objectName) {
+        long expires = Instant.now().plusSeconds(Math.max(1, linkExpiryMinutes) * 60).getEpochSecond();
+        return toStableUrl(objectName) + "?expires=" + expires + "&sig=" + sign(objectName, expires);
+    }
+
+    @Override
+    public void deleteIfExists(String objectName) {
+        try {
+            Files.deleteIfExists(resolve(objectName));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Delete failed", e);
+        }
+    }
+
+    @Override
+    public List<String> deleteBatch(List<String> objectNames) {
+        List<String> failed = new ArrayList<>();
+        for (String name : objectNames) {
+            try {
+                Files.deleteIfExists(resolve(name));
+            } catch (IOException | IllegalArgumentException ex) {
+                failed.add(name);
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public void stageChunk(String objectName, String uploadId, int index, long offset, InputStream content, long length) {
+        Path staged = stagingPath(uploadId);
+        try {
+            Files.createDirectories(staged.getParent());
+            try (ReadableByteChannel in = Channels.newChannel(content);
+                 FileChannel out = FileChannel.open(staged, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                long written = 0;
+                long transferred;
+                while (written < length && (transferred = out.transferFrom(in, offset + written, length - written)) > 0) {
+                    written += transferred;
+                }
+                if (written != length) {
+                    throw new IOException("Incomplete chunk: expected " + length + " bytes, got " + written);
+                }
+                out.truncate(offset + length);
+                out.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chunk upload failed", e);
+        }
+    }
+
+    @Override
+    public String commitChunks(String objectName, String uploadId, int chunkCount, String contentType, String targetObjectName) {
+        Path target = resolve(targetObjectName);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(stagingPath(uploadId), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return toStableUrl(targetObjectName);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Upload failed", e);
+        }
+    }
+
+    @Override
+    public void abortChunks(String objectName, String uploadId) {
+        try {
+            Files.deleteIfExists(stagingPath(uploadId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Delete failed", e);
+        }
+    }
+
+    private Path stagingPath(String uploadId) {
+        return resolve(STAGING_DIR + "/" + uploadId + ".part");
+    }
+
+    @Override
+    public void forEachObject(BiConsumer<String, Instant> visitor) {
+        try (Stream<Path> files = Files.walk(root)) {
+            Path staging = root.resolve(STAGING_DIR);
+            files.filter(Files::isRegularFile).filter(path -> !path.startsWith(staging)).forEach(path -> {
+                try {
+                    String name = root.relativize(path).toString().replace('\\', '/');
+                    visitor.accept(name, Files.getLastModifiedTime(path).toInstant());
+                } catch (IOException ignored) {
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Listing failed", e);
+        }
+    }
+
+    @Override
+    public String extractObjectName(String storedUrlOrObjectName) {
+        String value = storedUrlOrObjectName;
+        if (value.startsWith(publicBaseUrl + "/")) {
+            value = value.substring(publicBaseUrl.length() + 1);
+        } else if (value.startsWith("http://") || value.startsWith("https://")) {
+            try {
+                String path = URI.create(value).getPath();
+                String basePath = URI.create(publicBaseUrl).getPath();
+                if (path != null && basePath != null && path.startsWith(basePath + "/")) {
+                    value = path.substring(basePath.length() + 1);
+                }
+            } catch (IllegalArgumentException ex) {
+                return storedUrlOrObjectName;
+            }
+        }
+
+        int queryIdx = value.indexOf('?');
+        if (queryIdx >= 0) {
+            value = value.substring(0, queryIdx);
+        }
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    public boolean isValidSignature(String objectName, long expires, String signature) {
+        if (signature == null || expires < Instant.now().getEpochSecond()) {
+            return false;
+        }
+        byte[] expected = sign(objectName, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public Path resolve(String objectName) {
+        Path path = root.resolve(objectName).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid object name");
+        }
+        return path;
+    }
+
+    private String sign(String objectName, long expires) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] raw = mac.doFinal((objectName + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Signing failed", e);
+        }
+    }
+}
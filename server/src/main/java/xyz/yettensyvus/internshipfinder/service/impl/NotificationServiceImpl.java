@@ -47,6 +47,7 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<NotificationDTO> listForUserFiltered(
             String email,
             NotificationType type,
@@ -77,6 +78,7 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<NotificationDTO> listForUser(String email) {
         User user = getUserByEmail(email);
         return notificationRepository.findByUserOrderByCreatedAtDesc(user)
@@ -86,6 +88,7 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public long unreadCount(String email) {
         User user = getUserByEmail(email);
         return notificationRepository.countByUserAndReadFalse(user);
@@ -125,16 +128,7 @@ public class NotificationServiceImpl implements NotificationService {
             Long jobId,
             Long applicationId
     ) {
-        Notification n = new Notification();
-        n.setUser(recipient);
-        n.setType(type == null ? NotificationType.GENERIC : type);
-        n.setTitle(title == null || title.isBlank() ? "Notification" : title);
-        n.setMessage(message == null ? "" : message);
-        n.setActorEmail(actorEmail);
-        n.setJobId(jobId);
-        n.setApplicationId(applicationId);
-        n.setRead(false);
-        return notificationRepository.save(n);
+        return notificationRepository.save(build(recipient, type, title, message, actorEmail, jobId, applicationId));
     }
 
     @Override
@@ -149,9 +143,31 @@ public class NotificationServiceImpl implements NotificationService {
         List<User> admins = userRepository.findByRole(Role.ADMIN);
         List<Notification> created = new ArrayList<>();
         for (User admin : admins) {
-            created.add(createForUserEntity(admin, type, title, message, actorEmail, jobId, applicationId));
+            created.add(build(admin, type, title, message, actorEmail, jobId, applicationId));
         }
-        return created;
+        // One transaction for the whole fan-out, so the inserts go out as JDBC batches.
+        return notificationRepository.saveAll(created);
+    }
+
+    private Notification build(
+            User recipient,
+            NotificationType type,
+            String title,
+            String message,
+            String actorEmail,
+            Long jobId,
+            Long applicationId
+    ) {
+        Notification n = new Notification();
+        n.setUser(recipient);
+        n.setType(type == null ? NotificationType.GENERIC : type);
+        n.setTitle(title == null || title.isBlank() ? "Notification" : title);
+        n.setMessage(message == null ? "" : message);
+        n.setActorEmail(actorEmail);
+        n.setJobId(jobId);
+        n.setApplicationId(applicationId);
+        n.setRead(false);
+        return n;
     }
 
     @Override
@@ -3,8 +3,9 @@ package xyz.yettensyvus.internshipfinder.service.impl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import xyz.yettensyvus.internshipfinder.repository.OtpTokenRepository;
+import xyz.yettensyvus.internshipfinder.service.SchedulerLockService;
 
 import java.time.Instant;
 
@@ -14,9 +15,15 @@ public class OtpTokenCleanupService {
     @Autowired
     private OtpTokenRepository otpTokenRepository;
 
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @Scheduled(cron = "0 */15 * * * *")
-    @Transactional
     public void cleanup() {
-        otpTokenRepository.deleteExpiredOrConsumed(Instant.now());
+        schedulerLockService.runLocked("otp-token-cleanup", () -> transactionTemplate.executeWithoutResult(
+                status -> otpTokenRepository.deleteExpiredOrConsumed(Instant.now())));
     }
 }
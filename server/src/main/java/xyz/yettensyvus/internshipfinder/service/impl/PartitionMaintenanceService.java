@@ -0,0 +1,84 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.yettensyvus.internshipfinder.enums.PartitionedTable;
+import xyz.yettensyvus.internshipfinder.repository.PartitionRepository;
+import xyz.yettensyvus.internshipfinder.service.SchedulerLockService;
+
+import java.time.YearMonth;
+
+/**
+ * Keeps the monthly partitions of notifications, applications and the admin audit log ahead of time and enforces
+ * retention by dropping whole months instead of deleting rows. A retention of 0 months keeps everything.
+ */
+@Service
+public class PartitionMaintenanceService {
+
+    @Autowired
+    private PartitionRepository partitionRepo;
+
+    @Autowired
+    private SchedulerLockService schedulerLockService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.partitions.months-ahead:2}")
+    private int monthsAhead;
+
+    @Value("${app.partitions.notifications.retention-months:0}")
+    private int notificationRetentionMonths;
+
+    @Value("${app.partitions.applications.retention-months:0}")
+    private int applicationRetentionMonths;
+
+    @Value("${app.partitions.admin-audit-log.retention-months:0}")
+    private int auditLogRetentionMonths;
+
+    @PostConstruct
+    void init() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${app.partitions.maintenance-cron:0 15 2 * * *}")
+    public void maintainPartitions() {
+        schedulerLockService.runLocked("partition-maintenance", () -> {
+            maintain(PartitionedTable.NOTIFICATIONS, notificationRetentionMonths);
+            maintain(PartitionedTable.APPLICATIONS, applicationRetentionMonths);
+            maintain(PartitionedTable.ADMIN_AUDIT_LOG, auditLogRetentionMonths);
+        });
+    }
+
+    private void maintain(PartitionedTable table, int retentionMonths) {
+        // One clock for every month decision: the database's, the same one the migration and the apply path use
+        YearMonth current = partitionRepo.currentMonth(table);
+        for (int i = 0; i <= monthsAhead; i++) {
+            partitionRepo.ensurePartition(table, current.plusMonths(i));
+        }
+
+        if (retentionMonths <= 0) {
+            return;
+        }
+
+        YearMonth keepFrom = current.minusMonths(retentionMonths);
+        for (YearMonth month : partitionRepo.findPartitionMonths(table)) {
+            if (!month.isBefore(keepFrom)) {
+                continue;
+            }
+            schedulerLockService.ensureLeaseHeld();
+            transactionTemplate.executeWithoutResult(status -> {
+                if (table == PartitionedTable.APPLICATIONS) {
+                    partitionRepo.deleteApplicationKeysBefore(month.plusMonths(1));
+                }
+                partitionRepo.dropPartition(table, month);
+            });
+            System.out.println("Dropped " + table.getTableName() + " partition for " + month + " (retention "
+                    + retentionMonths + " months)");
+        }
+    }
+}
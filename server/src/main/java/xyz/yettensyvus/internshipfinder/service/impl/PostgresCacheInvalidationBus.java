@@ -0,0 +1,249 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import xyz.yettensyvus.internshipfinder.enums.CacheEntity;
+import xyz.yettensyvus.internshipfinder.service.CacheInvalidationBus;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Invalidation bus over Postgres NOTIFY. Payloads are {@code "<node> <ENTITY> <id,id,...|*>"}; pg_notify is
+ * transactional, so an event published on a transaction's connection goes out on commit and is dropped on rollback.
+ *
+ * <p>Each node keeps one dedicated connection (outside the pool) in LISTEN mode on a daemon thread. Events arriving
+ * within {@code coalesce-ms} of each other are merged into one eviction per entity type. If the connection drops,
+ * the caches fall back to their TTLs until it is re-established, and after reconnecting every subscriber is told to
+ * drop everything, since events sent in the meantime are lost.
+ */
+@Service
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcConnectionDetails connectionDetails;
+
+    @Value("${app.cache.invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.invalidation.channel:cache_invalidation}")
+    private String channel;
+
+    @Value("${app.cache.invalidation.poll-ms:1000}")
+    private int pollMs;
+
+    @Value("${app.cache.invalidation.coalesce-ms:50}")
+    private long coalesceMs;
+
+    @Value("${app.cache.invalidation.max-backoff-ms:30000}")
+    private long maxBackoffMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<CacheEntity, List<Consumer<Set<Long>>>> subscribers = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listener;
+
+    @PostConstruct
+    public void init() {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalStateException("Invalid cache invalidation channel name: " + channel);
+        }
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+            listener.join(pollMs * 2L);
+        }
+    }
+
+    @Override
+    public void publish(CacheEntity entity, Collection<Long> ids) {
+        if (!enabled) {
+            return;
+        }
+        jdbcTemplate.query("select pg_notify(?, ?)", (RowCallbackHandler) rs -> { }, channel, payload(entity, ids));
+    }
+
+    @Override
+    public void publish(Connection connection, CacheEntity entity, Collection<Long> ids) throws SQLException {
+        if (!enabled) {
+            return;
+        }
+        try (PreparedStatement ps = connection.prepareStatement("select pg_notify(?, ?)")) {
+            ps.setString(1, channel);
+            ps.setString(2, payload(entity, ids));
+            ps.execute();
+        }
+    }
+
+    @Override
+    public void subscribe(CacheEntity entity, Consumer<Set<Long>> handler) {
+        subscribers.computeIfAbsent(entity, e -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    @Override
+    public boolean isListening() {
+        return listening;
+    }
+
+    private String payload(CacheEntity entity, Collection<Long> ids) {
+        String prefix = nodeId + " " + entity.name() + " ";
+        if (ids.isEmpty()) {
+            return prefix + "*";
+        }
+        String payload = prefix + ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return payload.length() > MAX_PAYLOAD_BYTES ? prefix + "*" : payload;
+    }
+
+    private void listen() {
+        long backoff = 1000;
+        boolean connectedBefore = false;
+
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(
+                    connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                try (Statement st = conn.createStatement()) {
+                    st.execute("LISTEN " + channel);
+                }
+                PGConnection pg = conn.unwrap(PGConnection.class);
+                listening = true;
+                backoff = 1000;
+                if (connectedBefore) {
+                    System.out.println("Cache invalidation listener reconnected, dropping all cached entries");
+                    dispatchAll();
+                }
+                connectedBefore = true;
+
+                while (running) {
+                    PGNotification[] batch = pg.getNotifications(pollMs);
+                    if (batch == null || batch.length == 0) {
+                        continue;
+                    }
+
+                    Map<CacheEntity, Set<Long>> pending = new EnumMap<>(CacheEntity.class);
+                    Set<CacheEntity> all = EnumSet.noneOf(CacheEntity.class);
+                    accumulate(batch, pending, all);
+
+                    long deadline = System.currentTimeMillis() + coalesceMs;
+                    long remaining;
+                    while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+                        batch = pg.getNotifications((int) remaining);
+                        if (batch == null || batch.length == 0) {
+                            break;
+                        }
+                        accumulate(batch, pending, all);
+                    }
+
+                    dispatch(pending, all);
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    break;
+                }
+                System.err.println("Cache invalidation listener disconnected, relying on cache TTLs until it reconnects: "
+                        + ex.getMessage());
+            } finally {
+                listening = false;
+            }
+
+            if (running) {
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = Math.min(backoff * 2, maxBackoffMs);
+            }
+        }
+    }
+
+    private void accumulate(PGNotification[] batch, Map<CacheEntity, Set<Long>> pending, Set<CacheEntity> all) {
+        for (PGNotification n : batch) {
+            String[] parts = n.getParameter().split(" ", 3);
+            if (parts.length != 3 || parts[0].equals(nodeId)) {
+                continue;
+            }
+
+            CacheEntity entity;
+            try {
+                entity = CacheEntity.valueOf(parts[1]);
+            } catch (IllegalArgumentException ex) {
+                continue;
+            }
+
+            if (parts[2].equals("*")) {
+                all.add(entity);
+                continue;
+            }
+            Set<Long> ids = pending.computeIfAbsent(entity, e -> new HashSet<>());
+            for (String id : parts[2].split(",")) {
+                try {
+                    ids.add(Long.parseLong(id));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+    }
+
+    private void dispatchAll() {
+        dispatch(Map.of(), EnumSet.allOf(CacheEntity.class));
+    }
+
+    private void dispatch(Map<CacheEntity, Set<Long>> pending, Set<CacheEntity> all) {
+        for (CacheEntity entity : CacheEntity.values()) {
+            Set<Long> ids;
+            if (all.contains(entity)) {
+                ids = Set.of();
+            } else if (pending.containsKey(entity)) {
+                ids = Collections.unmodifiableSet(pending.get(entity));
+            } else {
+                continue;
+            }
+
+            for (Consumer<Set<Long>> handler : subscribers.getOrDefault(entity, List.of())) {
+                try {
+                    handler.accept(ids);
+                } catch (Exception ex) {
+                    System.err.println("Cache invalidation handler failed for " + entity + ": " + ex.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.yettensyvus.internshipfinder.enums.CacheEntity;
+import xyz.yettensyvus.internshipfinder.model.User;
+import xyz.yettensyvus.internshipfinder.repository.UserRepository;
+import xyz.yettensyvus.internshipfinder.service.CacheInvalidationBus;
+import xyz.yettensyvus.internshipfinder.service.FileUploadService;
+import xyz.yettensyvus.internshipfinder.service.ProfilePictureThumbnailService;
+import xyz.yettensyvus.internshipfinder.service.StorageBackend;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class ProfilePictureThumbnailServiceImpl implements ProfilePictureThumbnailService {
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private StorageBackend storageBackend;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Value("${app.thumbnails.size:128}")
+    private int size;
+
+    @Value("${app.thumbnails.workers:2}")
+    private int workers;
+
+    @Value("${app.thumbnails.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${app.thumbnails.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "thumbnail-worker-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Points the user at a newly uploaded picture and, in the same transaction, queues the previous picture and
+     * its thumbnail for deletion.
+     */
+    @Override
+    @Transactional
+    public void replaceProfilePicture(Long userId, String pictureUrl) {
+        User user = userRepo.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        String previous = user.getProfilePictureUrl();
+        String previousThumbnail = user.getProfilePictureThumbnailUrl();
+        user.setProfilePictureUrl(pictureUrl);
+        user.setProfilePictureThumbnailUrl(null);
+        userRepo.save(user);
+
+        releaseProfilePicture(userId, previous, previousThumbnail);
+    }
+
+    /**
+     * Queues a picture and thumbnail the user no longer shows for deletion, unless another user still shows them
+     * (seeded accounts, or an admin pointing one user at another's picture).
+     */
+    @Override
+    @Transactional
+    public void releaseProfilePicture(Long userId, String pictureUrl, String thumbnailUrl) {
+        for (String url : new String[]{pictureUrl, thumbnailUrl}) {
+            if (url != null && !url.isBlank() && !userRepo.isProfilePictureUsedByOthers(url, userId)) {
+                fileUploadService.scheduleDeletion(url);
+            }
+        }
+    }
+
+    /**
+     * Queues a thumbnail for the stored picture; the worker reads the picture back from storage, so the request
+     * thread hands off nothing but its URL.
+     */
+    @Override
+    public void generateAsync(String originalUrl) {
+        if (originalUrl == null || originalUrl.isBlank()) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> generate(originalUrl));
+        } catch (RejectedExecutionException ex) {
+            System.err.println("Thumbnail queue full, serving original for: " + originalUrl);
+        }
+    }
+
+    @Override
+    public String toThumbnailReadSasUrl(User user) {
+        if (user == null) {
+            return null;
+        }
+        String thumbnail = user.getProfilePictureThumbnailUrl();
+        if (thumbnail != null && !thumbnail.isBlank()) {
+            return fileUploadService.toReadSasUrl(thumbnail);
+        }
+        return fileUploadService.toReadSasUrl(user.getProfilePictureUrl());
+    }
+
+    private void generate(String originalUrl) {
+        try {
+            BufferedImage source;
+            try (InputStream in = storageBackend.openRead(storageBackend.extractObjectName(originalUrl))) {
+                source = ImageIO.read(in);
+            }
+            if (source == null) {
+                return;
+            }
+
+            byte[] jpeg = toJpeg(cropAndScale(source));
+            String thumbnailUrl = fileUploadService.uploadBytes(jpeg, thumbnailBlobName(originalUrl), "image/jpeg");
+
+            int updated = userRepo.updateProfilePictureThumbnailUrl(originalUrl, thumbnailUrl);
+            if (updated == 0) {
+                fileUploadService.scheduleDeletion(thumbnailUrl);
+            } else {
+                List<Long> userIds = userRepo.findIdsByProfilePictureUrl(originalUrl);
+                if (!userIds.isEmpty()) {
+                    cacheInvalidationBus.publish(CacheEntity.USER, userIds);
+                }
+            }
+        } catch (Exception ex) {
+            System.err.println("Failed to generate thumbnail: " + originalUrl + " | " + ex.getMessage());
+        }
+    }
+
+    private BufferedImage cropAndScale(BufferedImage source) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        int x = (source.getWidth() - side) / 2;
+        int y = (source.getHeight() - side) / 2;
+
+        BufferedImage target = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, size, size);
+            g.drawImage(source, 0, 0, size, size, x, y, x + side, y + side, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private String thumbnailBlobName(String originalUrl) {
+        String path = originalUrl;
+        try {
+            String parsed = URI.create(originalUrl).getPath();
+            if (parsed != null) {
+                path = parsed;
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        int fileIdx = path.lastIndexOf('/');
+        String fileName = path.substring(fileIdx + 1);
+        String parent = fileIdx > 0 ? path.substring(0, fileIdx) : "";
+        String folder = parent.substring(parent.lastIndexOf('/') + 1);
+        if (folder.isBlank()) {
+            folder = "uploads";
+        }
+
+        int extIdx = fileName.lastIndexOf('.');
+        String baseName = extIdx > 0 ? fileName.substring(0, extIdx) : fileName;
+        return folder + "/thumbnails/" + baseName + "-" + size + ".jpg";
+    }
+}
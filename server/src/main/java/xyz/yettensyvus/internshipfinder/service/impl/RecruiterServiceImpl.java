@@ -6,8 +6,8 @@ import org.springframework.web.multipart.MultipartFile;
 import xyz.yettensyvus.internshipfinder.dto.RecruiterProfileDTO;
 import xyz.yettensyvus.internshipfinder.model.Recruiter;
 import xyz.yettensyvus.internshipfinder.repository.RecruiterRepository;
-import xyz.yettensyvus.internshipfinder.repository.UserRepository;
 import xyz.yettensyvus.internshipfinder.service.FileUploadService;
+import xyz.yettensyvus.internshipfinder.service.ProfilePictureThumbnailService;
 import xyz.yettensyvus.internshipfinder.service.RecruiterService;
 
 import java.io.IOException;
@@ -19,10 +19,10 @@ public class RecruiterServiceImpl implements RecruiterService {
     private RecruiterRepository recruiterRepo;
 
     @Autowired
-    private UserRepository userRepo;
+    private FileUploadService fileUploadService;
 
     @Autowired
-    private FileUploadService fileUploadService;
+    private ProfilePictureThumbnailService thumbnailService;
 
     @Override
     public RecruiterProfileDTO getProfile(String email) {
@@ -33,6 +33,7 @@ public class RecruiterServiceImpl implements RecruiterService {
         dto.setCompanyName(recruiter.getCompanyName());
         dto.setCompanyWebsite(recruiter.getCompanyWebsite());
         dto.setProfilePictureUrl(fileUploadService.toReadSasUrl(recruiter.getUser().getProfilePictureUrl()));
+        dto.setProfilePictureThumbnailUrl(thumbnailService.toThumbnailReadSasUrl(recruiter.getUser()));
         return dto;
     }
 
@@ -50,10 +51,9 @@ public class RecruiterServiceImpl implements RecruiterService {
         Recruiter recruiter = recruiterRepo.findByUserEmail(email);
         String imageUrl = fileUploadService.uploadFile(file, "recruiter-profile-pictures");
         if (recruiter.getUser() != null) {
-            recruiter.getUser().setProfilePictureUrl(imageUrl);
-            userRepo.save(recruiter.getUser());
+            thumbnailService.replaceProfilePicture(recruiter.getUser().getId(), imageUrl);
         }
-        recruiterRepo.save(recruiter);
+        thumbnailService.generateAsync(imageUrl);
         return fileUploadService.toReadSasUrl(imageUrl);
     }
 }
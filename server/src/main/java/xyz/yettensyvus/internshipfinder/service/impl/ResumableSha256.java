@@ -0,0 +1,166 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+
+/**
+ * SHA-256 whose running state can be saved with an upload session and restored by whichever instance receives the
+ * next chunk, so a chunked upload is hashed as it arrives. The JDK digest cannot be serialized, hence this small
+ * standalone implementation.
+ */
+final class ResumableSha256 extends MessageDigest {
+
+    private static final int[] K = {
+            0x428a2f98, 0x71374491, 0xb5c0fbcf, 0xe9b5dba5, 0x3956c25b, 0x59f111f1, 0x923f82a4, 0xab1c5ed5,
+            0xd807aa98, 0x12835b01, 0x243185be, 0x550c7dc3, 0x72be5d74, 0x80deb1fe, 0x9bdc06a7, 0xc19bf174,
+            0xe49b69c1, 0xefbe4786, 0x0fc19dc6, 0x240ca1cc, 0x2de92c6f, 0x4a7484aa, 0x5cb0a9dc, 0x76f988da,
+            0x983e5152, 0xa831c66d, 0xb00327c8, 0xbf597fc7, 0xc6e00bf3, 0xd5a79147, 0x06ca6351, 0x14292967,
+            0x27b70a85, 0x2e1b2138, 0x4d2c6dfc, 0x53380d13, 0x650a7354, 0x766a0abb, 0x81c2c92e, 0x92722c85,
+            0xa2bfe8a1, 0xa81a664b, 0xc24b8b70, 0xc76c51a3, 0xd192e819, 0xd6990624, 0xf40e3585, 0x106aa070,
+            0x19a4c116, 0x1e376c08, 0x2748774c, 0x34b0bcb5, 0x391c0cb3, 0x4ed8aa4a, 0x5b9cca4f, 0x682e6ff3,
+            0x748f82ee, 0x78a5636f, 0x84c87814, 0x8cc70208, 0x90befffa, 0xa4506ceb, 0xbef9a3f7, 0xc67178f2
+    };
+
+    private static final int[] INITIAL_STATE = {
+            0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a, 0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19
+    };
+
+    private final int[] state = new int[8];
+    private final int[] schedule = new int[64];
+    private final byte[] block = new byte[64];
+    private int blockLength;
+    private long byteCount;
+
+    ResumableSha256() {
+        super("SHA-256");
+        engineReset();
+    }
+
+    /**
+     * Restores a digest saved with {@link #saveState()}; {@code null} starts a new one.
+     */
+    static ResumableSha256 restore(byte[] saved) {
+        ResumableSha256 sha = new ResumableSha256();
+        if (saved == null) {
+            return sha;
+        }
+
+        ByteBuffer in = ByteBuffer.wrap(saved);
+        for (int i = 0; i < 8; i++) {
+            sha.state[i] = in.getInt();
+        }
+        sha.byteCount = in.getLong();
+        sha.blockLength = (int) (sha.byteCount % 64);
+        in.get(sha.block, 0, sha.blockLength);
+        return sha;
+    }
+
+    /**
+     * The chaining values, the byte count and any bytes of an incomplete block; at most 103 bytes.
+     */
+    byte[] saveState() {
+        ByteBuffer out = ByteBuffer.allocate(40 + blockLength);
+        for (int value : state) {
+            out.putInt(value);
+        }
+        out.putLong(byteCount);
+        out.put(block, 0, blockLength);
+        return out.array();
+    }
+
+    @Override
+    protected int engineGetDigestLength() {
+        return 32;
+    }
+
+    @Override
+    protected void engineUpdate(byte input) {
+        engineUpdate(new byte[]{input}, 0, 1);
+    }
+
+    @Override
+    protected void engineUpdate(byte[] input, int offset, int length) {
+        byteCount += length;
+        if (blockLength > 0) {
+            int copied = Math.min(length, 64 - blockLength);
+            System.arraycopy(input, offset, block, blockLength, copied);
+            blockLength += copied;
+            offset += copied;
+            length -= copied;
+            if (blockLength < 64) {
+                return;
+            }
+            compress(block, 0);
+            blockLength = 0;
+        }
+        while (length >= 64) {
+            compress(input, offset);
+            offset += 64;
+            length -= 64;
+        }
+        System.arraycopy(input, offset, block, 0, length);
+        blockLength = length;
+    }
+
+    @Override
+    protected byte[] engineDigest() {
+        long bitLength = byteCount * 8;
+        byte[] padding = new byte[(blockLength < 56 ? 56 : 120) - blockLength + 8];
+        padding[0] = (byte) 0x80;
+        ByteBuffer.wrap(padding, padding.length - 8, 8).putLong(bitLength);
+        engineUpdate(padding, 0, padding.length);
+
+        ByteBuffer out = ByteBuffer.allocate(32);
+        for (int value : state) {
+            out.putInt(value);
+        }
+        engineReset();
+        return out.array();
+    }
+
+    @Override
+    protected void engineReset() {
+        System.arraycopy(INITIAL_STATE, 0, state, 0, 8);
+        blockLength = 0;
+        byteCount = 0;
+    }
+
+    private void compress(byte[] input, int offset) {
+        int[] w = schedule;
+        for (int t = 0; t < 16; t++) {
+            int i = offset + t * 4;
+            w[t] = (input[i] & 0xff) << 24 | (input[i + 1] & 0xff) << 16 | (input[i + 2] & 0xff) << 8 | (input[i + 3] & 0xff);
+        }
+        for (int t = 16; t < 64; t++) {
+            int s0 = Integer.rotateRight(w[t - 15], 7) ^ Integer.rotateRight(w[t - 15], 18) ^ (w[t - 15] >>> 3);
+            int s1 = Integer.rotateRight(w[t - 2], 17) ^ Integer.rotateRight(w[t - 2], 19) ^ (w[t - 2] >>> 10);
+            w[t] = w[t - 16] + s0 + w[t - 7] + s1;
+        }
+
+        int a = state[0], b = state[1], c = state[2], d = state[3];
+        int e = state[4], f = state[5], g = state[6], h = state[7];
+        for (int t = 0; t < 64; t++) {
+            int t1 = h + (Integer.rotateRight(e, 6) ^ Integer.rotateRight(e, 11) ^ Integer.rotateRight(e, 25))
+                    + ((e & f) ^ (~e & g)) + K[t] + w[t];
+            int t2 = (Integer.rotateRight(a, 2) ^ Integer.rotateRight(a, 13) ^ Integer.rotateRight(a, 22))
+                    + ((a & b) ^ (a & c) ^ (b & c));
+            h = g;
+            g = f;
+            f = e;
+            e = d + t1;
+            d = c;
+            c = b;
+            b = a;
+            a = t1 + t2;
+        }
+
+        state[0] += a;
+        state[1] += b;
+        state[2] += c;
+        state[3] += d;
+        state[4] += e;
+        state[5] += f;
+        state[6] += g;
+        state[7] += h;
+    }
+}
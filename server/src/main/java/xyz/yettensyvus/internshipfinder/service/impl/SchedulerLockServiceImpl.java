@@ -0,0 +1,149 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import xyz.yettensyvus.internshipfinder.dto.SchedulerLockDTO;
+import xyz.yettensyvus.internshipfinder.repository.SchedulerLockRepository;
+import xyz.yettensyvus.internshipfinder.service.SchedulerLockService;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lease-based locks in the {@code scheduler_locks} table so a cluster-wide scheduled job runs on one instance per
+ * tick. The lease is short and renewed from a background thread while the job runs, so a long run keeps it and a
+ * crashed instance gives it up within one lease. On release the row stays held until a minimum hold has passed
+ * since it was taken, which absorbs clock skew between instances firing the same cron tick. A job whose lease was
+ * taken over, or not renewed in time, is stopped at its next {@link #ensureLeaseHeld()} checkpoint.
+ */
+@Service
+public class SchedulerLockServiceImpl implements SchedulerLockService {
+
+    @Autowired
+    private SchedulerLockRepository lockRepo;
+
+    @Value("${app.scheduler.lock.lease-ms:120000}")
+    private long leaseMs;
+
+    @Value("${app.scheduler.lock.min-hold-ms:5000}")
+    private long minHoldMs;
+
+    private static final ThreadLocal<Lease> CURRENT = new ThreadLocal<>();
+
+    private String instanceId;
+    private ScheduledExecutorService renewer;
+
+    @PostConstruct
+    public void init() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception ex) {
+            host = "unknown";
+        }
+        instanceId = host + "/" + UUID.randomUUID().toString().substring(0, 8);
+
+        renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "scheduler-lock-renewer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    @Override
+    public boolean runLocked(String name, Runnable task) {
+        Duration lease = Duration.ofMillis(leaseMs);
+        if (!lockRepo.tryAcquire(name, instanceId, lease)) {
+            return false;
+        }
+
+        Lease held = new Lease(name, System.nanoTime() + lease.toNanos());
+        long renewEvery = Math.max(leaseMs / 3, 1);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> renew(held, lease),
+                renewEvery, renewEvery, TimeUnit.MILLISECONDS);
+        Lease outer = CURRENT.get();
+        CURRENT.set(held);
+        try {
+            task.run();
+            return held.isHeld();
+        } catch (RuntimeException ex) {
+            if (held.isHeld()) {
+                throw ex;
+            }
+            System.err.println("Stopped scheduled job " + name + " after losing its lock: " + ex.getMessage());
+            return false;
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+            renewal.cancel(false);
+            try {
+                lockRepo.release(name, instanceId, Duration.ofMillis(minHoldMs));
+            } catch (Exception ex) {
+                System.err.println("Failed to release scheduler lock " + name + ", it expires with its lease: "
+                        + ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void ensureLeaseHeld() {
+        Lease lease = CURRENT.get();
+        if (lease != null && !lease.isHeld()) {
+            throw new RuntimeException("Scheduler lock " + lease.name + " is no longer held by this instance");
+        }
+    }
+
+    @Override
+    public List<SchedulerLockDTO> getLocks() {
+        return lockRepo.findAll();
+    }
+
+    private void renew(Lease held, Duration lease) {
+        if (held.lost) {
+            return;
+        }
+        long renewedAt = System.nanoTime();
+        try {
+            if (lockRepo.extend(held.name, instanceId, lease)) {
+                held.validUntilNanos = renewedAt + lease.toNanos();
+            } else {
+                held.lost = true;
+                System.err.println("Scheduler lock " + held.name + " was taken over by another instance while still running");
+            }
+        } catch (Exception ex) {
+            System.err.println("Failed to renew scheduler lock " + held.name + ": " + ex.getMessage());
+        }
+    }
+
+    private static final class Lease {
+        private final String name;
+        private volatile long validUntilNanos;
+        private volatile boolean lost;
+
+        private Lease(String name, long validUntilNanos) {
+            this.name = name;
+            this.validUntilNanos = validUntilNanos;
+        }
+
+        private boolean isHeld() {
+            return !lost && System.nanoTime() - validUntilNanos < 0;
+        }
+    }
+}
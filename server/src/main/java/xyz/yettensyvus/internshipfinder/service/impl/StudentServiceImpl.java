@@ -3,14 +3,15 @@ package xyz.yettensyvus.internshipfinder.service.impl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import xyz.yettensyvus.internshipfinder.dto.StudentProfileDTO;
 import xyz.yettensyvus.internshipfinder.enums.NotificationType;
 import xyz.yettensyvus.internshipfinder.model.Student;
 import xyz.yettensyvus.internshipfinder.repository.StudentRepository;
-import xyz.yettensyvus.internshipfinder.repository.UserRepository;
 import xyz.yettensyvus.internshipfinder.service.FileUploadService;
 import xyz.yettensyvus.internshipfinder.service.NotificationService;
+import xyz.yettensyvus.internshipfinder.service.ProfilePictureThumbnailService;
 import xyz.yettensyvus.internshipfinder.service.StudentService;
 
 import java.io.IOException;
@@ -21,15 +22,15 @@ public class StudentServiceImpl implements StudentService {
     @Autowired
     private StudentRepository studentRepo;
 
-    @Autowired
-    private UserRepository userRepo;
-
     @Autowired
     private NotificationService notificationService;
 
     @Autowired
     private FileUploadService fileUploadService;
 
+    @Autowired
+    private ProfilePictureThumbnailService thumbnailService;
+
     @Override
     public Student getLoggedInStudent() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -51,6 +52,7 @@ public class StudentServiceImpl implements StudentService {
         dto.setYearOfPassing(s.getYearOfPassing());
         dto.setResumeUrl(fileUploadService.toReadSasUrl(s.getResumeUrl()));
         dto.setProfilePictureUrl(fileUploadService.toReadSasUrl(s.getUser().getProfilePictureUrl()));
+        dto.setProfilePictureThumbnailUrl(thumbnailService.toThumbnailReadSasUrl(s.getUser()));
 
         return dto;
     }
@@ -71,19 +73,25 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     public String uploadResumeForLoggedInUser(MultipartFile file) throws IOException {
+        // Hashing and the upload run before the transaction, so the connection is held for the SQL only
+        return fileUploadService.uploadDeduplicated(file, this::attachResumeForLoggedInUser);
+    }
+
+    @Override
+    @Transactional
+    public String attachResumeForLoggedInUser(String storedUrl) {
         Student student = getLoggedInStudent();
 
         String previous = student.getResumeUrl();
-        if (previous != null && !previous.isBlank()) {
-            fileUploadService.deleteFileIfExists(previous);
-        }
-
-        String uploadedUrl = fileUploadService.uploadFile(file, "resumes");
-        String stableUrl = fileUploadService.toStableBlobUrl(uploadedUrl);
+        String stableUrl = fileUploadService.toStableBlobUrl(storedUrl);
 
         student.setResumeUrl(stableUrl);
         studentRepo.save(student);
 
+        if (previous != null && !previous.isBlank()) {
+            fileUploadService.releaseFile(previous);
+        }
+
         String email = student.getUser() != null ? student.getUser().getEmail() : null;
         notificationService.createForAdmins(
                 NotificationType.RESUME_UPLOADED,
@@ -104,10 +112,10 @@ public class StudentServiceImpl implements StudentService {
         String imageUrl = fileUploadService.uploadFile(file, "student-profile-pictures");
 
         if (student.getUser() != null) {
-            student.getUser().setProfilePictureUrl(imageUrl);
-            userRepo.save(student.getUser());
+            thumbnailService.replaceProfilePicture(student.getUser().getId(), imageUrl);
         }
-        studentRepo.save(student);
+
+        thumbnailService.generateAsync(imageUrl);
 
         return fileUploadService.toReadSasUrl(imageUrl);
     }
@@ -0,0 +1,102 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.yettensyvus.internshipfinder.enums.CacheEntity;
+import xyz.yettensyvus.internshipfinder.repository.*;
+import xyz.yettensyvus.internshipfinder.security.PrincipalContextResolver;
+import xyz.yettensyvus.internshipfinder.service.CacheInvalidationBus;
+import xyz.yettensyvus.internshipfinder.service.DashboardStatsService;
+import xyz.yettensyvus.internshipfinder.service.FileUploadService;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based removal of users and everything that hangs off them. Each statement covers the whole id set, so the
+ * cost is a fixed number of round trips per call regardless of how many jobs or applications are involved.
+ * Callers are expected to pass bounded id sets; recruiters with very large job histories go through the chunked
+ * purge in {@link AdminBulkServiceImpl} instead.
+ */
+@Component
+public class UserCascadeDeleter {
+
+    @Autowired private UserRepository userRepo;
+    @Autowired private StudentRepository studentRepo;
+    @Autowired private RecruiterRepository recruiterRepo;
+    @Autowired private JobRepository jobRepo;
+    @Autowired private ApplicationRepository applicationRepo;
+    @Autowired private NotificationRepository notificationRepo;
+    @Autowired private OtpTokenRepository otpTokenRepo;
+    @Autowired private FileUploadService fileUploadService;
+    @Autowired private DashboardStatsService dashboardStatsService;
+    @Autowired private PrincipalContextResolver principalResolver;
+    @Autowired private CacheInvalidationBus cacheInvalidationBus;
+
+    @Transactional
+    public int deleteUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        userRepo.findProfilePictureUrlsByIds(userIds).forEach(fileUploadService::scheduleDeletion);
+        userRepo.findProfilePictureThumbnailUrlsByIds(userIds).forEach(fileUploadService::scheduleDeletion);
+
+        deleteStudents(userIds);
+        deleteRecruiters(userIds);
+
+        notificationRepo.deleteByUserIds(userIds);
+        otpTokenRepo.deleteByUserIds(userIds);
+        int users = userRepo.deleteByIds(userIds);
+        principalResolver.evictUsers(userIds);
+        dashboardStatsService.recordDeletion(users, 0, 0, 0, 0);
+        return users;
+    }
+
+    @Transactional
+    public int deleteStudents(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        studentRepo.findResumeUrlsByUserIds(userIds).forEach(fileUploadService::releaseFile);
+
+        int applications = applicationRepo.deleteByStudentUserIds(userIds);
+        int students = studentRepo.deleteByUserIds(userIds);
+        principalResolver.evictUsers(userIds);
+        dashboardStatsService.recordDeletion(0, students, 0, 0, applications);
+        return students;
+    }
+
+    @Transactional
+    public int deleteRecruiters(Collection<Long> recruiterIds) {
+        if (recruiterIds.isEmpty()) {
+            return 0;
+        }
+
+        int applications = applicationRepo.deleteByRecruiterIds(recruiterIds);
+        int jobs = jobRepo.deleteByRecruiterIds(recruiterIds);
+        int recruiters = recruiterRepo.deleteByIds(recruiterIds);
+        principalResolver.evictUsers(recruiterIds);
+        cacheInvalidationBus.publish(CacheEntity.RECRUITER, recruiterIds);
+        if (jobs > 0) {
+            cacheInvalidationBus.publish(CacheEntity.JOB, List.of());
+        }
+        dashboardStatsService.recordDeletion(0, 0, recruiters, jobs, applications);
+        return recruiters;
+    }
+
+    @Transactional
+    public int deleteJobs(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+
+        int applications = applicationRepo.deleteByJobIds(jobIds);
+        int jobs = jobRepo.deleteByIds(jobIds);
+        cacheInvalidationBus.publish(CacheEntity.JOB, jobIds);
+        dashboardStatsService.recordDeletion(0, 0, 0, jobs, applications);
+        return jobs;
+    }
+}
@@ -12,9 +12,12 @@ import xyz.yettensyvus.internshipfinder.repository.OtpTokenRepository;
 import xyz.yettensyvus.internshipfinder.repository.StudentRepository;
 import xyz.yettensyvus.internshipfinder.repository.UserRepository;
 import xyz.yettensyvus.internshipfinder.security.JwtTokenProvider;
+import xyz.yettensyvus.internshipfinder.security.PrincipalContextResolver;
+import xyz.yettensyvus.internshipfinder.service.DashboardStatsService;
 import xyz.yettensyvus.internshipfinder.service.EmailService;
 import xyz.yettensyvus.internshipfinder.service.FileUploadService;
 import xyz.yettensyvus.internshipfinder.service.NotificationService;
+import xyz.yettensyvus.internshipfinder.service.ProfilePictureThumbnailService;
 import xyz.yettensyvus.internshipfinder.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -39,7 +42,10 @@ public class UserServiceImpl implements UserService {
     @Autowired private EmailService emailService;
     @Autowired private NotificationService notificationService;
     @Autowired private FileUploadService fileUploadService;
+    @Autowired private ProfilePictureThumbnailService thumbnailService;
+    @Autowired private DashboardStatsService dashboardStatsService;
     @Autowired private OtpTokenRepository otpTokenRepo;
+    @Autowired private PrincipalContextResolver principalResolver;
 
     private String normalizeEmail(String email) {
         if (email == null) return null;
@@ -48,14 +54,7 @@ public class UserServiceImpl implements UserService {
     }
 
     private User getCurrentUser() {
-        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-
-        String email;
-        if (principal instanceof org.springframework.security.core.userdetails.User) {
-            email = ((org.springframework.security.core.userdetails.User) principal).getUsername();
-        } else {
-            email = String.valueOf(principal);
-        }
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
 
         return userRepo.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
@@ -142,12 +141,14 @@ public class UserServiceImpl implements UserService {
             student.setName(req.getName());
             student.setResumeUrl(req.getResumeUrl());
             studentRepo.save(student);
+            dashboardStatsService.userCreated(Role.STUDENT);
         } else if (user.getRole() == Role.RECRUITER) {
             Recruiter recruiter = new Recruiter();
             recruiter.setUser(user);
             recruiter.setCompanyName(req.getCompanyName());
             recruiter.setCompanyWebsite(req.getCompanyWebsite());
             recruiterRepo.save(recruiter);
+            dashboardStatsService.userCreated(Role.RECRUITER);
 
             String otp = createOrReplaceOtp(user, OtpPurpose.RECRUITER_EMAIL_VERIFICATION, null);
             emailService.sendRecruiterEmailVerificationOtpEmail(user.getEmail(), otp);
@@ -242,6 +243,7 @@ public class UserServiceImpl implements UserService {
 
         user.setEmail(newEmail);
         userRepo.save(user);
+        principalResolver.evictUsers(List.of(user.getId()));
 
         return "Email changed";
     }
@@ -321,8 +323,9 @@ public class UserServiceImpl implements UserService {
         }
 
         String avatar = fileUploadService.toReadSasUrl(user.getProfilePictureUrl());
+        String avatarThumbnail = thumbnailService.toThumbnailReadSasUrl(user);
 
-        return new AuthResponse(token, user.getEmail(), user.getRole().name(), name, avatar);
+        return new AuthResponse(token, user.getEmail(), user.getRole().name(), name, avatar, avatarThumbnail);
     }
 
     private String createOrReplaceOtp(User user, OtpPurpose purpose, String targetEmail) {
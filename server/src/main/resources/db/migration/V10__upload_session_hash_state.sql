@@ -0,0 +1,6 @@
+-- Chunks are hashed as they are staged and the running SHA-256 state is kept with the session, so completing an
+-- upload never reads the assembled file back. Sessions started before this have no state and cannot be completed;
+-- expiring them lets the cleanup job discard their staged chunks. Attachment uploads are no longer accepted, so
+-- those sessions are relabelled to the one purpose that is left before they are discarded.
+alter table upload_sessions add column if not exists hash_state bytea;
+update upload_sessions set expires_at = now(), purpose = 'RESUME' where hash_state is null;
@@ -0,0 +1,218 @@
+-- Baseline: the schema previously produced by hibernate ddl-auto=update. Written idempotently so that it
+-- brings a database created by Hibernate up to date (baseline-version=0) as well as creating a fresh one.
+
+create table if not exists users (
+    id bigint generated by default as identity,
+    username varchar(255),
+    email varchar(255) not null,
+    password varchar(255),
+    role varchar(255),
+    profile_picture_url varchar(255),
+    profile_picture_thumbnail_url varchar(255),
+    enabled boolean not null,
+    created_at timestamp(6),
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
+
+alter table users add column if not exists profile_picture_thumbnail_url varchar(255);
+alter table users add column if not exists created_at timestamp(6);
+
+create table if not exists students (
+    id bigint generated by default as identity,
+    name varchar(255),
+    phone varchar(255),
+    college varchar(255),
+    branch varchar(255),
+    year_of_passing varchar(255),
+    resume_url varchar(255),
+    user_id bigint not null,
+    primary key (id),
+    constraint uk_students_user unique (user_id),
+    constraint fk_students_user foreign key (user_id) references users (id)
+);
+
+create table if not exists recruiters (
+    id bigint not null,
+    company_name varchar(255),
+    company_website varchar(255),
+    primary key (id),
+    constraint fk_recruiters_user foreign key (id) references users (id)
+);
+
+create table if not exists jobs (
+    id bigint generated by default as identity,
+    title varchar(255),
+    company varchar(255),
+    location varchar(255),
+    description varchar(5000),
+    deadline varchar(255),
+    type varchar(255),
+    paid boolean not null,
+    duration varchar(255),
+    compensation varchar(255),
+    created_at timestamp(6),
+    is_active boolean not null,
+    recruiter_id bigint,
+    primary key (id),
+    constraint fk_jobs_recruiter foreign key (recruiter_id) references recruiters (id)
+);
+
+create table if not exists applications (
+    id bigint generated by default as identity,
+    student_id bigint not null,
+    job_id bigint not null,
+    status varchar(255),
+    applied_at timestamp(6),
+    primary key (id),
+    constraint fk_applications_student foreign key (student_id) references students (id),
+    constraint fk_applications_job foreign key (job_id) references jobs (id)
+);
+
+create table if not exists notifications (
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    title varchar(255) not null,
+    message text,
+    type varchar(255) not null,
+    actor_email varchar(255),
+    job_id bigint,
+    application_id bigint,
+    read boolean not null,
+    created_at timestamp(6) with time zone not null,
+    primary key (id),
+    constraint fk_notifications_user foreign key (user_id) references users (id)
+);
+
+create table if not exists otp_tokens (
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    purpose varchar(255) not null,
+    otp_code varchar(255) not null,
+    target_email varchar(255),
+    created_at timestamp(6) with time zone not null,
+    expires_at timestamp(6) with time zone not null,
+    consumed_at timestamp(6) with time zone,
+    primary key (id),
+    constraint fk_otp_tokens_user foreign key (user_id) references users (id)
+);
+
+create index if not exists idx_otp_user_purpose on otp_tokens (user_id, purpose);
+create index if not exists idx_otp_expires_at on otp_tokens (expires_at);
+
+create table if not exists stored_files (
+    id bigint generated by default as identity,
+    content_hash varchar(64) not null,
+    blob_name varchar(255) not null,
+    size_bytes bigint not null,
+    content_type varchar(255),
+    ref_count bigint not null,
+    created_at timestamp(6) with time zone not null,
+    primary key (id),
+    constraint uk_stored_files_content_hash unique (content_hash)
+);
+
+create index if not exists idx_stored_files_blob_name on stored_files (blob_name);
+
+create table if not exists blob_deletion_queue (
+    id bigint generated by default as identity,
+    object_name varchar(255) not null,
+    enqueued_at timestamp(6) with time zone not null,
+    next_attempt_at timestamp(6) with time zone not null,
+    attempts integer not null,
+    last_error varchar(1000),
+    primary key (id),
+    constraint uk_blob_deletion_object_name unique (object_name)
+);
+
+create index if not exists idx_blob_deletion_next_attempt on blob_deletion_queue (next_attempt_at);
+
+create table if not exists upload_sessions (
+    id varchar(36) not null,
+    user_id bigint not null,
+    object_name varchar(255) not null,
+    file_name varchar(255) not null,
+    content_type varchar(255),
+    purpose varchar(255) not null,
+    total_size bigint not null,
+    chunk_size bigint not null,
+    uploaded_bytes bigint not null,
+    created_at timestamp(6) with time zone not null,
+    expires_at timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+create index if not exists idx_upload_sessions_expires_at on upload_sessions (expires_at);
+
+create table if not exists analytics_rollups (
+    id bigint generated by default as identity,
+    metric varchar(40) not null,
+    granularity varchar(10) not null,
+    bucket_start timestamp(6) not null,
+    dimension varchar(40) not null,
+    event_count bigint not null,
+    primary key (id),
+    constraint uk_analytics_rollup_bucket unique (metric, granularity, bucket_start, dimension)
+);
+
+create table if not exists analytics_watermarks (
+    stream varchar(40) not null,
+    last_id bigint not null,
+    updated_at timestamp(6) with time zone,
+    primary key (stream)
+);
+
+create table if not exists application_status_events (
+    id bigint generated by default as identity,
+    application_id bigint not null,
+    from_status varchar(255),
+    to_status varchar(255) not null,
+    occurred_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table if not exists admin_bulk_operations (
+    id varchar(36) not null,
+    type varchar(20) not null,
+    status varchar(30) not null,
+    requested_by varchar(255) not null,
+    target_count bigint not null,
+    processed_count bigint not null,
+    affected_count bigint not null,
+    failed_chunks integer not null,
+    created_at timestamp(6) with time zone not null,
+    started_at timestamp(6) with time zone,
+    finished_at timestamp(6) with time zone,
+    error varchar(1000),
+    primary key (id)
+);
+
+create table if not exists admin_bulk_operation_chunks (
+    id bigint generated by default as identity,
+    operation_id varchar(36) not null,
+    chunk_index integer not null,
+    first_id bigint not null,
+    last_id bigint not null,
+    requested integer not null,
+    affected integer not null,
+    error varchar(1000),
+    processed_at timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+create index if not exists idx_admin_bulk_chunk_operation on admin_bulk_operation_chunks (operation_id, chunk_index);
+
+-- Monthly partitions are created ahead of time by PartitionMaintenanceService.
+create table if not exists admin_audit_log (
+    id bigint generated always as identity,
+    occurred_at timestamp with time zone not null,
+    actor_email varchar(255),
+    action varchar(40) not null,
+    target_type varchar(20),
+    target_id bigint,
+    details text,
+    primary key (id, occurred_at)
+) partition by range (occurred_at);
+
+create index if not exists idx_admin_audit_log_occurred_at on admin_audit_log (occurred_at desc);
+create index if not exists idx_admin_audit_log_target on admin_audit_log (target_type, target_id);
@@ -0,0 +1,45 @@
+-- Indexes for the predicates the services filter and join on. Built concurrently so that applying this to a
+-- populated database does not block writes; see the .conf file, concurrent builds cannot run in a transaction.
+
+-- A failed concurrent build leaves an INVALID index behind, which "if not exists" would then skip for good. Drop
+-- such leftovers first so a retried migration rebuilds them; an invalid index is never used, so the drop is quick.
+do $$
+declare
+    leftover text;
+begin
+    for leftover in
+        select c.relname from pg_index i join pg_class c on c.oid = i.indexrelid
+        where not i.indisvalid
+          and c.relnamespace = current_schema()::regnamespace
+          and c.relname in (
+              'idx_jobs_active_paid_created',
+              'idx_jobs_recruiter',
+              'idx_applications_job',
+              'idx_notifications_user_created',
+              'idx_students_user',
+              'idx_users_email_prefix',
+              'idx_users_username_prefix',
+              'idx_students_name_prefix',
+              'idx_recruiters_company_prefix'
+          )
+    loop
+        execute format('drop index %I', leftover);
+    end loop;
+end $$;
+
+-- Public job listing: active jobs, optionally paid only, newest first.
+create index concurrently if not exists idx_jobs_active_paid_created on jobs (is_active, paid, created_at desc);
+create index concurrently if not exists idx_jobs_recruiter on jobs (recruiter_id);
+
+create index concurrently if not exists idx_applications_job on applications (job_id);
+
+create index concurrently if not exists idx_notifications_user_created on notifications (user_id, created_at desc);
+
+-- Covered by uk_students_user on fresh databases, but schemas generated by older Hibernate versions lack it.
+create index concurrently if not exists idx_students_user on students (user_id);
+
+-- Admin typeahead search: prefix matching on lower-cased values.
+create index concurrently if not exists idx_users_email_prefix on users (lower(email) text_pattern_ops);
+create index concurrently if not exists idx_users_username_prefix on users (lower(username) text_pattern_ops);
+create index concurrently if not exists idx_students_name_prefix on students (lower(name) text_pattern_ops);
+create index concurrently if not exists idx_recruiters_company_prefix on recruiters (lower(company_name) text_pattern_ops);
@@ -0,0 +1,42 @@
+-- A student may apply to a job only once. Duplicates could previously slip past the check-then-insert in
+-- the service; keep the earliest application of each pair, together with its status history, before enforcing
+-- the rule. The deletes commit on their own, so instances still running the old code can add a duplicate before
+-- the unique build; the build then fails and leaves the index INVALID. Dropping such a leftover and deduplicating
+-- again right before the build makes the migration safe to retry.
+do $$
+declare
+    leftover text;
+begin
+    for leftover in
+        select c.relname from pg_index i join pg_class c on c.oid = i.indexrelid
+        where not i.indisvalid
+          and c.relnamespace = current_schema()::regnamespace
+          and c.relname in (
+              'uk_applications_student_job'
+          )
+    loop
+        execute format('drop index %I', leftover);
+    end loop;
+end $$;
+
+delete from application_status_events e
+using applications a, applications b
+where e.application_id = a.id
+  and a.student_id = b.student_id
+  and a.job_id = b.job_id
+  and a.id > b.id;
+
+delete from applications a
+using applications b
+where a.student_id = b.student_id
+  and a.job_id = b.job_id
+  and a.id > b.id;
+
+create unique index concurrently if not exists uk_applications_student_job on applications (student_id, job_id);
+
+do $$
+begin
+    if not exists (select 1 from pg_constraint where conname = 'uk_applications_student_job') then
+        alter table applications add constraint uk_applications_student_job unique using index uk_applications_student_job;
+    end if;
+end $$;
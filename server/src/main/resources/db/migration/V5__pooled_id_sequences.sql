@@ -0,0 +1,34 @@
+-- Move the entity ids Hibernate writes in bulk from identity columns to sequences with increment 50, which the
+-- pooled optimizer hands out in blocks so inserts can be JDBC-batched. The column default keeps native inserts
+-- working: they draw a whole sequence value, which never falls inside a block Hibernate has reserved.
+-- Sequences start past the block that ends at max(id) + 50 so the first block cannot reuse existing ids.
+do $$
+declare
+    t text;
+begin
+    foreach t in array array[
+        'users', 'students', 'jobs', 'applications', 'notifications', 'otp_tokens',
+        'application_status_events', 'admin_bulk_operation_chunks'
+    ]
+    loop
+        execute format('create sequence if not exists %I increment by 50', t || '_seq');
+        execute format('alter table %I alter column id drop identity if exists', t);
+        execute format('alter table %I alter column id set default nextval(%L)', t, t || '_seq');
+        execute format('alter sequence %I owned by %I.id', t || '_seq', t);
+        execute format('select setval(%L, (select coalesce(max(id), 0) from %I) + 50, false)', t || '_seq', t);
+    end loop;
+end $$;
+
+-- With ids allocated in blocks, id order no longer follows commit order; analytics watermarks become
+-- (timestamp, id) keysets. Existing watermarks resume after the newest row they already counted.
+alter table analytics_watermarks add column if not exists last_at timestamp(6);
+
+update analytics_watermarks w set last_at = coalesce(case w.stream
+    when 'APPLICATIONS_SUBMITTED' then (select max(applied_at) from applications where id <= w.last_id)
+    when 'APPLICATION_STATUS_CHANGES' then (select max(occurred_at) from application_status_events where id <= w.last_id)
+    when 'JOBS_POSTED' then (select max(created_at) from jobs where id <= w.last_id)
+    when 'USERS_REGISTERED' then (select max(created_at) from users where id <= w.last_id)
+end, timestamp '1970-01-01')
+where last_at is null;
+
+alter table analytics_watermarks alter column last_at set not null;
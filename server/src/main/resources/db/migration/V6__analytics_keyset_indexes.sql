@@ -0,0 +1,27 @@
+-- Keyset indexes for the analytics aggregator's (timestamp, id) watermarks.
+
+-- A failed concurrent build leaves an INVALID index behind, which "if not exists" would then skip for good. Drop
+-- such leftovers first so a retried migration rebuilds them; an invalid index is never used, so the drop is quick.
+do $$
+declare
+    leftover text;
+begin
+    for leftover in
+        select c.relname from pg_index i join pg_class c on c.oid = i.indexrelid
+        where not i.indisvalid
+          and c.relnamespace = current_schema()::regnamespace
+          and c.relname in (
+              'idx_applications_applied_at_id',
+              'idx_status_events_occurred_at_id',
+              'idx_jobs_created_at_id',
+              'idx_users_created_at_id'
+          )
+    loop
+        execute format('drop index %I', leftover);
+    end loop;
+end $$;
+
+create index concurrently if not exists idx_applications_applied_at_id on applications (applied_at, id);
+create index concurrently if not exists idx_status_events_occurred_at_id on application_status_events (occurred_at, id);
+create index concurrently if not exists idx_jobs_created_at_id on jobs (created_at, id);
+create index concurrently if not exists idx_users_created_at_id on users (created_at, id);
@@ -0,0 +1,9 @@
+-- Leases that keep each cluster-wide scheduled job to one instance at a time. A row is held while lock_until is
+-- in the future; locked_by names the instance that took it.
+create table if not exists scheduler_locks (
+    name varchar(64) not null,
+    lock_until timestamp(6) with time zone not null,
+    locked_at timestamp(6) with time zone not null,
+    locked_by varchar(255) not null,
+    primary key (name)
+);
@@ -0,0 +1,136 @@
+-- Rebuild notifications and applications as monthly range partitions on their time column, so retention can drop
+-- whole months and time-bounded queries only touch the months they ask for. Partitions run from the month of the
+-- oldest row to two months ahead; the partition maintenance job keeps creating them from there. Notification
+-- months are UTC months; applications.applied_at has no time zone, so its months are taken as stored.
+--
+-- Every unique constraint on a partitioned table must include the partition key, so the primary keys become
+-- (id, time) and the one-application-per-student-and-job rule moves to application_keys. A trigger claims the key
+-- before each application insert and raises unique_violation (23505) on uk_applications_student_job if the pair
+-- is already taken, just as the old constraint did; an insert whose key the caller claimed beforehand under the
+-- same application id passes. Another trigger releases the key when the application is deleted. Dropping a
+-- partition fires no triggers, so retention deletes the matching keys itself.
+--
+-- Downtime: the rebuild copies both tables in this one transaction and holds access exclusive locks on them
+-- until it commits, so every read and write of notifications and applications waits for the whole copy. Run it
+-- in a maintenance window sized to the tables; on large installations pre-create the partitioned tables and
+-- backfill them in batches before switching over instead.
+
+alter sequence applications_seq owned by none;
+alter sequence notifications_seq owned by none;
+
+alter table applications drop constraint if exists uk_applications_student_job;
+drop index if exists uk_applications_student_job;
+alter table applications rename to applications_unpartitioned;
+alter index if exists applications_pkey rename to applications_unpartitioned_pkey;
+alter table notifications rename to notifications_unpartitioned;
+alter index if exists notifications_pkey rename to notifications_unpartitioned_pkey;
+
+create table applications (
+    id bigint not null default nextval('applications_seq'),
+    student_id bigint not null,
+    job_id bigint not null,
+    status varchar(255),
+    applied_at timestamp(6) not null,
+    primary key (id, applied_at),
+    constraint fk_applications_student foreign key (student_id) references students (id),
+    constraint fk_applications_job foreign key (job_id) references jobs (id)
+) partition by range (applied_at);
+
+create table notifications (
+    id bigint not null default nextval('notifications_seq'),
+    user_id bigint not null,
+    title varchar(255) not null,
+    message text,
+    type varchar(255) not null,
+    actor_email varchar(255),
+    job_id bigint,
+    application_id bigint,
+    read boolean not null,
+    created_at timestamp(6) with time zone not null,
+    primary key (id, created_at),
+    constraint fk_notifications_user foreign key (user_id) references users (id)
+) partition by range (created_at);
+
+update applications_unpartitioned set applied_at = localtimestamp where applied_at is null;
+
+do $$
+declare
+    m timestamp;
+    last_month timestamp;
+begin
+    last_month := greatest(date_trunc('month', localtimestamp) + interval '2 months',
+                           (select date_trunc('month', max(applied_at)) from applications_unpartitioned));
+    m := coalesce((select date_trunc('month', min(applied_at)) from applications_unpartitioned),
+                  date_trunc('month', localtimestamp));
+    while m <= last_month loop
+        execute format('create table if not exists %I partition of applications for values from (%L) to (%L)',
+                'applications_' || to_char(m, 'YYYY_MM'), m, m + interval '1 month');
+        m := m + interval '1 month';
+    end loop;
+
+    last_month := greatest(date_trunc('month', now() at time zone 'UTC') + interval '2 months',
+                           (select date_trunc('month', max(created_at) at time zone 'UTC') from notifications_unpartitioned));
+    m := coalesce((select date_trunc('month', min(created_at) at time zone 'UTC') from notifications_unpartitioned),
+                  date_trunc('month', now() at time zone 'UTC'));
+    while m <= last_month loop
+        execute format('create table if not exists %I partition of notifications for values from (%L) to (%L)',
+                'notifications_' || to_char(m, 'YYYY_MM'),
+                m at time zone 'UTC', (m + interval '1 month') at time zone 'UTC');
+        m := m + interval '1 month';
+    end loop;
+end $$;
+
+create table if not exists application_keys (
+    application_id bigint not null,
+    student_id bigint not null,
+    job_id bigint not null,
+    applied_at timestamp(6) not null,
+    primary key (application_id),
+    constraint uk_applications_student_job unique (student_id, job_id)
+);
+
+create index if not exists idx_application_keys_applied_at on application_keys (applied_at);
+
+create or replace function applications_claim_key() returns trigger language plpgsql as $$
+begin
+    insert into application_keys (application_id, student_id, job_id, applied_at)
+    values (new.id, new.student_id, new.job_id, new.applied_at)
+    on conflict do nothing;
+    if not found and not exists (select 1 from application_keys
+                                 where application_id = new.id and student_id = new.student_id and job_id = new.job_id) then
+        raise exception 'duplicate key value violates unique constraint "uk_applications_student_job"'
+            using errcode = 'unique_violation', constraint = 'uk_applications_student_job', table = 'applications',
+                  detail = format('Key (student_id, job_id)=(%s, %s) already exists.', new.student_id, new.job_id);
+    end if;
+    return new;
+end $$;
+
+create or replace function applications_release_key() returns trigger language plpgsql as $$
+begin
+    delete from application_keys where application_id = old.id;
+    return null;
+end $$;
+
+create trigger trg_applications_claim_key before insert on applications
+    for each row execute function applications_claim_key();
+create trigger trg_applications_release_key after delete on applications
+    for each row execute function applications_release_key();
+
+insert into applications (id, student_id, job_id, status, applied_at)
+select id, student_id, job_id, status, applied_at from applications_unpartitioned;
+
+insert into notifications (id, user_id, title, message, type, actor_email, job_id, application_id, read, created_at)
+select id, user_id, title, message, type, actor_email, job_id, application_id, read, created_at
+from notifications_unpartitioned;
+
+drop table applications_unpartitioned;
+drop table notifications_unpartitioned;
+
+alter sequence applications_seq owned by applications.id;
+alter sequence notifications_seq owned by notifications.id;
+
+-- Created on the parent, so every partition, present and future, gets its own copy.
+create index if not exists idx_applications_job on applications (job_id);
+create index if not exists idx_applications_student_job on applications (student_id, job_id);
+create index if not exists idx_applications_applied_at_id on applications (applied_at, id);
+create index if not exists idx_notifications_user_created on notifications (user_id, created_at desc);
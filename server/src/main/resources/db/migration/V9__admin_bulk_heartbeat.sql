@@ -0,0 +1,6 @@
+-- Bulk operations run on an in-memory queue of the instance that accepted them. That instance refreshes
+-- heartbeat_at while an operation is queued or running, so rows left behind by a crash or restart can be told apart
+-- from live ones and failed instead of staying QUEUED or RUNNING forever.
+alter table admin_bulk_operations add column if not exists heartbeat_at timestamp(6) with time zone;
+update admin_bulk_operations set heartbeat_at = coalesce(started_at, created_at) where heartbeat_at is null;
+alter table admin_bulk_operations alter column heartbeat_at set not null;
@@ -0,0 +1,105 @@
+package xyz.yettensyvus.internshipfinder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import xyz.yettensyvus.internshipfinder.enums.Role;
+import xyz.yettensyvus.internshipfinder.model.Job;
+import xyz.yettensyvus.internshipfinder.model.Recruiter;
+import xyz.yettensyvus.internshipfinder.model.Student;
+import xyz.yettensyvus.internshipfinder.model.User;
+import xyz.yettensyvus.internshipfinder.repository.JobRepository;
+import xyz.yettensyvus.internshipfinder.repository.RecruiterRepository;
+import xyz.yettensyvus.internshipfinder.repository.StudentRepository;
+import xyz.yettensyvus.internshipfinder.repository.UserRepository;
+import xyz.yettensyvus.internshipfinder.service.ApplicationService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Many threads submit the same student's application to the same job at once; the unique (student_id, job_id)
+ * constraint must leave exactly one row and exactly one caller must see it as submitted. The throughput achieved
+ * is recorded as a report entry and held to a loose floor, so a regression to lock waits or retries shows up.
+ */
+class ApplicationApplyConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 50;
+    private static final double MIN_ATTEMPTS_PER_SECOND = 50;
+
+    @Autowired private ApplicationService applicationService;
+    @Autowired private UserRepository userRepo;
+    @Autowired private StudentRepository studentRepo;
+    @Autowired private RecruiterRepository recruiterRepo;
+    @Autowired private JobRepository jobRepo;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentAppliesCreateExactlyOneApplication(TestReporter reporter) throws Exception {
+        String suffix = UUID.randomUUID().toString();
+
+        User recruiterUser = userRepo.save(newUser("recruiter-" + suffix + "@example.com", Role.RECRUITER));
+        Recruiter recruiter = new Recruiter();
+        recruiter.setUser(recruiterUser);
+        recruiter = recruiterRepo.save(recruiter);
+
+        Job job = new Job();
+        job.setTitle("Concurrency test");
+        job.setRecruiter(recruiter);
+        job = jobRepo.save(job);
+
+        String studentEmail = "student-" + suffix + "@example.com";
+        Student student = new Student();
+        student.setName("Student");
+        student.setUser(userRepo.save(newUser(studentEmail, Role.STUDENT)));
+        studentRepo.save(student);
+
+        Long jobId = job.getId();
+        AtomicInteger submitted = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    String result = applicationService.applyToJobByEmail(studentEmail, jobId);
+                    if ("Application submitted".equals(result)) {
+                        submitted.incrementAndGet();
+                    } else {
+                        duplicates.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(2, TimeUnit.MINUTES);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        pool.shutdown();
+
+        int attempts = THREADS * ATTEMPTS_PER_THREAD;
+        double attemptsPerSecond = attempts / (elapsedNanos / 1e9);
+        reporter.publishEntry("attemptsPerSecond", String.format("%.0f", attemptsPerSecond));
+
+        assertEquals(1, submitted.get());
+        assertEquals(attempts - 1, duplicates.get());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from applications where job_id = ?", Integer.class, jobId));
+        assertTrue(attemptsPerSecond >= MIN_ATTEMPTS_PER_SECOND,
+                "only " + Math.round(attemptsPerSecond) + " apply attempts per second");
+    }
+}
@@ -0,0 +1,89 @@
+package xyz.yettensyvus.internshipfinder;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.yettensyvus.internshipfinder.enums.CacheEntity;
+import xyz.yettensyvus.internshipfinder.service.CacheInvalidationBus;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises the LISTEN/NOTIFY bus against a real Postgres: events from another node reach subscribers, and a
+ * publish only goes out when the surrounding transaction commits.
+ */
+class CacheInvalidationBusTest extends PostgresIntegrationTest {
+
+    @Autowired private CacheInvalidationBus bus;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private DataSource dataSource;
+
+    @Test
+    void foreignEventsReachSubscribers() throws Exception {
+        LinkedBlockingQueue<Set<Long>> received = new LinkedBlockingQueue<>();
+        bus.subscribe(CacheEntity.JOB, received::add);
+        awaitListening();
+
+        notify("other-node JOB 11,12");
+        assertEquals(Set.of(11L, 12L), received.poll(10, TimeUnit.SECONDS));
+
+        notify("other-node JOB *");
+        assertEquals(Set.of(), received.poll(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void publishIsDeliveredOnlyOnCommit() throws Exception {
+        try (Connection conn = dataSource.getConnection()) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("LISTEN cache_invalidation");
+            }
+            PGConnection pg = conn.unwrap(PGConnection.class);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                bus.publish(CacheEntity.USER, List.of(1L));
+                status.setRollbackOnly();
+            });
+            transactionTemplate.executeWithoutResult(status -> bus.publish(CacheEntity.USER, List.of(2L)));
+
+            List<String> payloads = new ArrayList<>();
+            long deadline = System.currentTimeMillis() + 2000;
+            while (System.currentTimeMillis() < deadline) {
+                PGNotification[] batch = pg.getNotifications(200);
+                if (batch != null) {
+                    for (PGNotification n : batch) {
+                        payloads.add(n.getParameter());
+                    }
+                }
+            }
+
+            assertEquals(1, payloads.size(), payloads::toString);
+            assertTrue(payloads.get(0).endsWith(" USER 2"), payloads.get(0));
+        }
+    }
+
+    private void awaitListening() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!bus.isListening() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(bus.isListening(), "listener did not connect");
+    }
+
+    private void notify(String payload) {
+        jdbcTemplate.query("select pg_notify('cache_invalidation', ?)", (RowCallbackHandler) rs -> { }, payload);
+    }
+}
@@ -0,0 +1,144 @@
+package xyz.yettensyvus.internshipfinder;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import xyz.yettensyvus.internshipfinder.enums.Role;
+import xyz.yettensyvus.internshipfinder.enums.Status;
+import xyz.yettensyvus.internshipfinder.model.*;
+import xyz.yettensyvus.internshipfinder.repository.*;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the SQL statements each read endpoint issues. Every endpoint is called, the data behind it is grown,
+ * and it is called again: the count must not change (no per-row lazy loading) and must stay within the
+ * budget of its fetch plan. Budgets assume a warm principal cache, so user/student/recruiter lookups are free.
+ */
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EndpointQueryCountTest extends PostgresIntegrationTest {
+
+    private static final int GROWTH = 5;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private UserRepository userRepo;
+    @Autowired private StudentRepository studentRepo;
+    @Autowired private RecruiterRepository recruiterRepo;
+    @Autowired private JobRepository jobRepo;
+    @Autowired private ApplicationRepository applicationRepo;
+
+    private Statistics statistics;
+    private Recruiter recruiter;
+    private Student student;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        recruiter = recruiter();
+        student = student();
+        job = job(recruiter);
+        apply(student, job);
+    }
+
+    @Test
+    void activeJobs() throws Exception {
+        assertStable(1, get("/api/jobs").with(user(student.getUser().getEmail()).roles("STUDENT")),
+                () -> job(recruiter()));
+        assertStable(1, get("/api/student/jobs").with(user(student.getUser().getEmail()).roles("STUDENT")),
+                () -> job(recruiter()));
+    }
+
+    @Test
+    void jobDetails() throws Exception {
+        assertStable(1, get("/api/jobs/" + job.getId()).with(user(student.getUser().getEmail()).roles("STUDENT")),
+                () -> apply(student(), job));
+    }
+
+    @Test
+    void studentApplications() throws Exception {
+        // applications with job, recruiter and users joined
+        assertStable(1, get("/api/student/applications").with(user(student.getUser().getEmail()).roles("STUDENT")),
+                () -> apply(student, job(recruiter())));
+    }
+
+    @Test
+    void recruiterJobs() throws Exception {
+        // jobs with recruiter and user joined
+        assertStable(1, get("/api/recruiter/jobs").with(user(recruiter.getUser().getEmail()).roles("RECRUITER")),
+                () -> job(recruiter));
+    }
+
+    @Test
+    void recruiterApplicationsForJob() throws Exception {
+        // job, applications with students and users joined
+        assertStable(2, get("/api/recruiter/applications/" + job.getId()).with(user(recruiter.getUser().getEmail()).roles("RECRUITER")),
+                () -> apply(student(), job));
+    }
+
+    private void assertStable(long budget, RequestBuilder request, Runnable grow) throws Exception {
+        // the first call resolves and caches the principal context
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        long before = count(request);
+        for (int i = 0; i < GROWTH; i++) {
+            grow.run();
+        }
+        long after = count(request);
+
+        assertEquals(before, after, "statement count grew with the data");
+        assertTrue(after <= budget, "expected at most " + budget + " statements, got " + after);
+    }
+
+    private long count(RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Recruiter recruiter() {
+        Recruiter r = new Recruiter();
+        r.setUser(userRepo.save(newUser("recruiter-" + UUID.randomUUID() + "@example.com", Role.RECRUITER)));
+        r.setCompanyName("Company");
+        return recruiterRepo.save(r);
+    }
+
+    private Student student() {
+        Student s = new Student();
+        s.setUser(userRepo.save(newUser("student-" + UUID.randomUUID() + "@example.com", Role.STUDENT)));
+        s.setName("Student");
+        return studentRepo.save(s);
+    }
+
+    private Job job(Recruiter owner) {
+        Job j = new Job();
+        j.setTitle("Job");
+        j.setRecruiter(owner);
+        return jobRepo.save(j);
+    }
+
+    private void apply(Student applicant, Job target) {
+        Application a = new Application();
+        a.setStudent(applicant);
+        a.setJob(target);
+        a.setStatus(Status.APPLIED);
+        a.setAppliedAt(new Date());
+        applicationRepo.save(a);
+    }
+}
@@ -0,0 +1,127 @@
+package xyz.yettensyvus.internshipfinder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.yettensyvus.internshipfinder.enums.NotificationType;
+import xyz.yettensyvus.internshipfinder.enums.Role;
+import xyz.yettensyvus.internshipfinder.model.Notification;
+import xyz.yettensyvus.internshipfinder.model.Student;
+import xyz.yettensyvus.internshipfinder.model.User;
+import xyz.yettensyvus.internshipfinder.repository.NotificationRepository;
+import xyz.yettensyvus.internshipfinder.repository.StudentRepository;
+import xyz.yettensyvus.internshipfinder.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Notification fan-out and user seeding with one INSERT per row (JDBC batch size 1, what identity ids forced on
+ * every entity) against the configured batch size that pooled sequence ids allow. Counts the statements each run
+ * prepares: unbatched needs one per row, batched one per batch plus one sequence call per id block.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class InsertBatchingTest extends PostgresIntegrationTest {
+
+    private static final int FAN_OUT_ROWS = 500;
+    private static final int SEED_USERS = 250;
+    // Room for statements from scheduled jobs that happen to run during a measurement
+    private static final int SLACK = 20;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @PersistenceContext private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private UserRepository userRepo;
+    @Autowired private StudentRepository studentRepo;
+    @Autowired private NotificationRepository notificationRepo;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void notificationFanOut() {
+        User recipient = userRepo.save(newUser("fanout-" + UUID.randomUUID() + "@example.com", Role.ADMIN));
+
+        assertBatched(FAN_OUT_ROWS,
+                statements(1, () -> notificationRepo.saveAll(notifications(recipient))),
+                statements(null, () -> notificationRepo.saveAll(notifications(recipient))));
+
+        assertEquals(2 * FAN_OUT_ROWS, jdbcTemplate.queryForObject(
+                "select count(*) from notifications where user_id = ?", Integer.class, recipient.getId()));
+    }
+
+    @Test
+    void seeding() {
+        String before = "seed-before-" + UUID.randomUUID();
+        String after = "seed-after-" + UUID.randomUUID();
+
+        assertBatched(SEED_USERS * 2,
+                statements(1, () -> seed(before)),
+                statements(null, () -> seed(after)));
+
+        assertEquals(2 * SEED_USERS, jdbcTemplate.queryForObject(
+                "select count(*) from students s join users u on u.id = s.user_id where u.email like 'seed-%'",
+                Integer.class));
+    }
+
+    private long statements(Integer jdbcBatchSize, Runnable work) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            // null restores the configured hibernate.jdbc.batch_size
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            work.run();
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void assertBatched(int rows, long unbatched, long batched) {
+        assertTrue(unbatched >= rows, "unbatched prepared " + unbatched + " statements for " + rows + " rows");
+        long budget = 2L * ((rows + batchSize - 1) / batchSize) + SLACK;
+        assertTrue(batched <= budget, "batched prepared " + batched + " statements, budget " + budget);
+    }
+
+    private List<Notification> notifications(User recipient) {
+        List<Notification> list = new ArrayList<>(FAN_OUT_ROWS);
+        for (int i = 0; i < FAN_OUT_ROWS; i++) {
+            Notification n = new Notification();
+            n.setUser(recipient);
+            n.setType(NotificationType.GENERIC);
+            n.setTitle("Batching");
+            n.setMessage("Notification " + i);
+            list.add(n);
+        }
+        return list;
+    }
+
+    private void seed(String prefix) {
+        List<User> users = new ArrayList<>(SEED_USERS);
+        for (int i = 0; i < SEED_USERS; i++) {
+            users.add(newUser(prefix + "-" + i + "@example.com", Role.STUDENT));
+        }
+        userRepo.saveAll(users);
+
+        List<Student> students = new ArrayList<>(SEED_USERS);
+        for (User u : users) {
+            Student s = new Student();
+            s.setName(u.getUsername());
+            s.setUser(u);
+            students.add(s);
+        }
+        studentRepo.saveAll(students);
+    }
+}
@@ -0,0 +1,139 @@
+package xyz.yettensyvus.internshipfinder;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.yettensyvus.internshipfinder.enums.PartitionedTable;
+import xyz.yettensyvus.internshipfinder.enums.Role;
+import xyz.yettensyvus.internshipfinder.model.Student;
+import xyz.yettensyvus.internshipfinder.model.User;
+import xyz.yettensyvus.internshipfinder.repository.AnalyticsRollupRepository;
+import xyz.yettensyvus.internshipfinder.repository.ApplicationRepository;
+import xyz.yettensyvus.internshipfinder.repository.NotificationRepository;
+import xyz.yettensyvus.internshipfinder.repository.PartitionRepository;
+import xyz.yettensyvus.internshipfinder.repository.StudentRepository;
+import xyz.yettensyvus.internshipfinder.repository.UserRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Plans the SQL the repository methods actually send to the partitioned tables. Time-bounded queries must only
+ * touch the partitions covering the requested range. Per-user and per-student listings have no time bound by
+ * design, since they show the whole history; they visit every partition, and must do so through its index.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "xyz.yettensyvus.internshipfinder.RecordingStatementInspector")
+class PartitionPruningTest extends PostgresIntegrationTest {
+
+    @Autowired private PartitionRepository partitionRepo;
+    @Autowired private NotificationRepository notificationRepo;
+    @Autowired private ApplicationRepository applicationRepo;
+    @Autowired private AnalyticsRollupRepository rollupRepo;
+    @Autowired private UserRepository userRepo;
+    @Autowired private StudentRepository studentRepo;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Test
+    void futurePartitionsExist() {
+        for (PartitionedTable table : PartitionedTable.values()) {
+            YearMonth current = partitionRepo.currentMonth(table);
+            List<YearMonth> months = partitionRepo.findPartitionMonths(table);
+            for (int i = 0; i <= 2; i++) {
+                assertTrue(months.contains(current.plusMonths(i)), table + " " + current.plusMonths(i));
+            }
+        }
+    }
+
+    @Test
+    void notificationRangeQueryScansOnlyItsMonth() {
+        YearMonth current = partitionRepo.currentMonth(PartitionedTable.NOTIFICATIONS);
+        partitionRepo.ensurePartition(PartitionedTable.NOTIFICATIONS, current.minusMonths(1));
+        User user = user();
+        Timestamp from = Timestamp.from(current.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+        Timestamp to = Timestamp.from(current.atDay(2).atStartOfDay().toInstant(ZoneOffset.UTC));
+
+        String sql = recordedSql("notifications",
+                () -> notificationRepo.findByUserAndCreatedAtBetweenOrderByCreatedAtDesc(user, from.toInstant(), to.toInstant()));
+        String plan = explain(sql, user.getId(), from, to);
+
+        assertTrue(plan.contains(partition("notifications", current)), plan);
+        assertFalse(plan.contains(partition("notifications", current.minusMonths(1))), plan);
+        assertFalse(plan.contains(partition("notifications", current.plusMonths(1))), plan);
+    }
+
+    @Test
+    void applicationKeysetQueryScansOnlyItsMonth() {
+        YearMonth current = partitionRepo.currentMonth(PartitionedTable.APPLICATIONS);
+        partitionRepo.ensurePartition(PartitionedTable.APPLICATIONS, current.minusMonths(1));
+        Timestamp afterAt = Timestamp.valueOf(current.atDay(1).atStartOfDay());
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.of(current.atDay(1), LocalTime.NOON));
+
+        String sql = recordedSql("applications", () -> rollupRepo.applicationBoundary(afterAt, 0L, cutoff, 100));
+        // Named parameters are expanded in order of appearance: afterAt, afterId, afterAt, cutoff, batchSize
+        String plan = explain(sql, afterAt, 0L, afterAt, cutoff, 100L);
+
+        assertTrue(plan.contains(partition("applications", current)), plan);
+        assertFalse(plan.contains(partition("applications", current.minusMonths(1))), plan);
+        assertFalse(plan.contains(partition("applications", current.plusMonths(1))), plan);
+    }
+
+    @Test
+    void unboundedListingsUsePartitionIndexes() {
+        User user = user();
+        Student student = new Student();
+        student.setName("Pruning");
+        student.setUser(user);
+        Student saved = studentRepo.save(student);
+
+        String notifications = recordedSql("notifications", () -> notificationRepo.findByUserOrderByCreatedAtDesc(user));
+        assertNoSeqScan(explainWithoutSeqScans(notifications, user.getId()), "notifications_");
+
+        String applications = recordedSql("applications", () -> applicationRepo.findByStudentId(saved.getId()));
+        assertNoSeqScan(explainWithoutSeqScans(applications, saved.getId()), "applications_");
+    }
+
+    private String recordedSql(String table, Runnable repositoryCall) {
+        RecordingStatementInspector.clear();
+        repositoryCall.run();
+        return RecordingStatementInspector.recorded().stream()
+                .filter(sql -> sql.toLowerCase().startsWith("select") && sql.contains(" " + table + " "))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("no query on " + table + " was recorded"));
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, args));
+    }
+
+    private String explainWithoutSeqScans(String sql, Object... args) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("set local enable_seqscan = off");
+            return explain(sql, args);
+        });
+    }
+
+    private static void assertNoSeqScan(String plan, String partitionPrefix) {
+        for (String line : plan.split("\n")) {
+            assertFalse(line.contains("Seq Scan on " + partitionPrefix), plan);
+        }
+    }
+
+    private User user() {
+        return userRepo.save(newUser("pruning-" + UUID.randomUUID() + "@example.com", Role.STUDENT));
+    }
+
+    private static String partition(String table, YearMonth month) {
+        return String.format("%s_%04d_%02d", table, month.getYear(), month.getMonthValue());
+    }
+}
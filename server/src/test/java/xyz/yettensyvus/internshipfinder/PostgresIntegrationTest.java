@@ -0,0 +1,50 @@
+package xyz.yettensyvus.internshipfinder;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import xyz.yettensyvus.internshipfinder.enums.Role;
+import xyz.yettensyvus.internshipfinder.model.User;
+
+/**
+ * Boots the application against a throwaway Postgres with the schema built by the migrations and checked by
+ * Hibernate. Skipped when no Docker daemon is available.
+ * <p>
+ * The container is started once per JVM and shared by every subclass, since cached application contexts keep
+ * its JDBC URL for the rest of the run; Testcontainers' Ryuk sidecar removes it when the JVM exits.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        "server.port=0",
+        "jwt.secret=c2NoZW1hLW1pZ3JhdGlvbi10ZXN0LXNlY3JldC1zY2hlbWEtbWlncmF0aW9uLXRlc3Qtc2VjcmV0LXNjaGVtYS1taWdyYXRpb24tdGVzdA==",
+        "jwt.expirationMs=3600000",
+        "spring.mail.username=test",
+        "spring.mail.password=test",
+        "app.storage.backend=local",
+        "app.storage.local.root-dir=target/test-storage",
+        "app.storage.local.signing-secret=test"
+})
+@Testcontainers(disabledWithoutDocker = true)
+abstract class PostgresIntegrationTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        postgres.start();
+    }
+
+    /**
+     * An enabled, unsaved user whose username is its email.
+     */
+    protected static User newUser(String email, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setUsername(email);
+        user.setRole(role);
+        user.setEnabled(true);
+        return user;
+    }
+}
@@ -0,0 +1,117 @@
+package xyz.yettensyvus.internshipfinder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import xyz.yettensyvus.internshipfinder.config.ReplicaRoutingDataSource;
+import xyz.yettensyvus.internshipfinder.dto.DataSourcePoolStatsDTO;
+import xyz.yettensyvus.internshipfinder.service.DataSourceStatsService;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+
+/**
+ * Runs against two independent Postgres instances standing in for a primary and its replica; each reports its own
+ * database name, which shows where a statement was routed.
+ */
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "app.datasource.replica.enabled=true")
+class ReadReplicaRoutingTest extends PostgresIntegrationTest {
+
+    private static final String PRIMARY_DB = postgres.getDatabaseName();
+    private static final String REPLICA_DB = "replica_db";
+
+    static final PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16-alpine").withDatabaseName(REPLICA_DB);
+
+    static {
+        replica.start();
+    }
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.datasource.replica.url", replica::getJdbcUrl);
+        registry.add("app.datasource.replica.username", replica::getUsername);
+        registry.add("app.datasource.replica.password", replica::getPassword);
+    }
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private DataSourceStatsService dataSourceStatsService;
+    @Autowired private MockMvc mockMvc;
+
+    @AfterEach
+    void disallowReplicaReads() {
+        ReplicaRoutingDataSource.disallowReplicaReads();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        ReplicaRoutingDataSource.allowReplicaReads();
+        assertEquals(REPLICA_DB, readOnly.execute(status -> currentDatabase()));
+        assertEquals(PRIMARY_DB, readWrite.execute(status -> currentDatabase()));
+        assertEquals(PRIMARY_DB, currentDatabase());
+
+        // A read-only transaction nested in a write joins it and stays on the primary
+        assertEquals(PRIMARY_DB, readWrite.execute(status -> readOnly.execute(s -> currentDatabase())));
+    }
+
+    @Test
+    void threadsNotOptedInReadFromThePrimary() throws Exception {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Like a scheduled job or executor worker re-reading a row it just wrote
+        assertEquals(PRIMARY_DB, readOnly.execute(status -> currentDatabase()));
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(PRIMARY_DB, worker.submit(() -> readOnly.execute(status -> currentDatabase())).get());
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    void writesSetTheStickinessCookie() throws Exception {
+        mockMvc.perform(post("/api/no-such-endpoint").with(user("student@example.com").roles("STUDENT")))
+                .andExpect(header().string("Set-Cookie", containsString("rw_primary=1")));
+    }
+
+    @Test
+    void poolStatsAreReportedPerTarget() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        ReplicaRoutingDataSource.allowReplicaReads();
+        readOnly.execute(status -> currentDatabase());
+
+        List<DataSourcePoolStatsDTO> stats = dataSourceStatsService.getPoolStats();
+        assertEquals(List.of("primary", "replica"), stats.stream().map(DataSourcePoolStatsDTO::getTarget).toList());
+        DataSourcePoolStatsDTO replicaStats = stats.get(1);
+        assertTrue(replicaStats.isUsable());
+        assertEquals(0L, replicaStats.getReplicationLagMs());
+        assertTrue(replicaStats.getConnectionsRouted() > 0);
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select current_database()", String.class);
+    }
+}
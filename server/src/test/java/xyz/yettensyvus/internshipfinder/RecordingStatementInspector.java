@@ -0,0 +1,28 @@
+package xyz.yettensyvus.internshipfinder;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the SQL Hibernate sends from the test thread, so tests can inspect exactly what a repository method runs.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        RECORDED.get().add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        RECORDED.get().clear();
+    }
+
+    static List<String> recorded() {
+        return List.copyOf(RECORDED.get());
+    }
+}
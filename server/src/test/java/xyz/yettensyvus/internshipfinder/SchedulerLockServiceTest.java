@@ -0,0 +1,84 @@
+package xyz.yettensyvus.internshipfinder;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import xyz.yettensyvus.internshipfinder.dto.SchedulerLockDTO;
+import xyz.yettensyvus.internshipfinder.service.SchedulerLockService;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A held lease keeps every other run of the same job out until it is released and the minimum hold has passed,
+ * an expired lease can be taken over, and a job whose lease is taken over stops. The lease is short so renewals
+ * happen within a test.
+ */
+@TestPropertySource(properties = "app.scheduler.lock.lease-ms=900")
+class SchedulerLockServiceTest extends PostgresIntegrationTest {
+
+    @Autowired private SchedulerLockService schedulerLockService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void heldLeaseBlocksOtherRunsAndIsVisible() {
+        String name = "test-" + UUID.randomUUID();
+        AtomicBoolean nestedRan = new AtomicBoolean();
+
+        boolean ran = schedulerLockService.runLocked(name, () -> {
+            SchedulerLockDTO lock = schedulerLockService.getLocks().stream()
+                    .filter(l -> l.getName().equals(name))
+                    .findFirst()
+                    .orElseThrow();
+            assertTrue(lock.isHeld());
+            assertNotNull(lock.getLockedBy());
+
+            assertFalse(schedulerLockService.runLocked(name, () -> nestedRan.set(true)));
+        });
+
+        assertTrue(ran);
+        assertFalse(nestedRan.get());
+        // Released, but still inside the minimum hold, so the same cron tick cannot run again.
+        assertFalse(schedulerLockService.runLocked(name, () -> nestedRan.set(true)));
+    }
+
+    @Test
+    void expiredLeaseCanBeTakenOver() {
+        String name = "test-" + UUID.randomUUID();
+        jdbcTemplate.update("insert into scheduler_locks (name, lock_until, locked_at, locked_by) " +
+                "values (?, now() - interval '1 minute', now() - interval '10 minutes', 'crashed-node')", name);
+
+        AtomicBoolean ran = new AtomicBoolean();
+        assertTrue(schedulerLockService.runLocked(name, () -> ran.set(true)));
+        assertTrue(ran.get());
+    }
+
+    @Test
+    void takenOverLeaseStopsTheJob() {
+        String name = "test-" + UUID.randomUUID();
+        AtomicInteger batches = new AtomicInteger();
+
+        boolean completed = schedulerLockService.runLocked(name, () -> {
+            jdbcTemplate.update("update scheduler_locks set locked_by = 'other-node' where name = ?", name);
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (System.currentTimeMillis() < deadline) {
+                schedulerLockService.ensureLeaseHeld();
+                batches.incrementAndGet();
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        });
+
+        assertFalse(completed);
+        // Stopped within about one renewal period, long before the loop would have finished on its own
+        assertTrue(batches.get() < 100, "batches run: " + batches.get());
+    }
+}
@@ -0,0 +1,49 @@
+package xyz.yettensyvus.internshipfinder;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The context only starts if the migrations apply to an empty database and Hibernate validates every entity
+ * against the result, so a mapping change without a matching migration fails here instead of at deploy time.
+ */
+class SchemaMigrationTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsApplyCleanlyAndMatchEntities() {
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void hotPathIndexesAndConstraintsExist() {
+        for (String index : new String[]{
+                "idx_jobs_active_paid_created",
+                "idx_jobs_recruiter",
+                "idx_applications_job",
+                "idx_notifications_user_created",
+                "idx_students_user",
+                "uk_applications_student_job"
+        }) {
+            Boolean valid = jdbcTemplate.queryForObject(
+                    "select i.indisvalid from pg_index i join pg_class c on c.oid = i.indexrelid where c.relname = ?",
+                    Boolean.class, index);
+            assertTrue(Boolean.TRUE.equals(valid), index);
+        }
+
+        Integer constraints = jdbcTemplate.queryForObject(
+                "select count(*) from pg_constraint where conname = 'uk_applications_student_job' and contype = 'u'",
+                Integer.class);
+        assertEquals(1, constraints);
+    }
+}
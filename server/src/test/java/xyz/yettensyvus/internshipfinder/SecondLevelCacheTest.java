@@ -0,0 +1,47 @@
+package xyz.yettensyvus.internshipfinder;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.yettensyvus.internshipfinder.enums.Role;
+import xyz.yettensyvus.internshipfinder.model.User;
+import xyz.yettensyvus.internshipfinder.repository.UserRepository;
+import xyz.yettensyvus.internshipfinder.service.impl.AnalyticsRollupAggregator;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Native bulk statements without declared query spaces make Hibernate evict every cached region. The analytics
+ * rollup runs several of them every minute, so a cached user must still be cached after a rollup tick.
+ */
+class SecondLevelCacheTest extends PostgresIntegrationTest {
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private UserRepository userRepo;
+    @Autowired private AnalyticsRollupAggregator aggregator;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cachedUserSurvivesRollupTick() {
+        User cached = userRepo.save(newUser("cached-" + UUID.randomUUID() + "@example.com", Role.STUDENT));
+        // A settled registration, so the users rollup actually has rows to upsert
+        User settled = userRepo.save(newUser("settled-" + UUID.randomUUID() + "@example.com", Role.STUDENT));
+        jdbcTemplate.update("update users set created_at = now() - interval '1 hour' where id = ?", settled.getId());
+
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(User.class, cached.getId());
+        transactionTemplate.executeWithoutResult(status -> userRepo.findById(cached.getId()));
+        assertTrue(cache.containsEntity(User.class, cached.getId()), "user was not cached");
+
+        aggregator.aggregate();
+
+        assertTrue(cache.containsEntity(User.class, cached.getId()), "rollup evicted the cached user");
+    }
+}
@@ -0,0 +1,42 @@
+package xyz.yettensyvus.internshipfinder.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class ResumableSha256Test {
+
+    @Test
+    void matchesJdkDigestAcrossBlockBoundaries() throws Exception {
+        Random random = new Random(42);
+        for (int length : new int[]{0, 1, 55, 56, 63, 64, 65, 119, 120, 128, 1000, 65_537}) {
+            byte[] content = new byte[length];
+            random.nextBytes(content);
+
+            ResumableSha256 sha = new ResumableSha256();
+            sha.update(content);
+
+            assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(content), sha.digest(), "length " + length);
+        }
+    }
+
+    @Test
+    void restoredStateContinuesTheSameDigest() throws Exception {
+        Random random = new Random(7);
+        byte[] content = new byte[10_000];
+        random.nextBytes(content);
+
+        for (int split : new int[]{1, 63, 64, 100, 4096, 9_999}) {
+            ResumableSha256 first = new ResumableSha256();
+            first.update(content, 0, split);
+
+            ResumableSha256 resumed = ResumableSha256.restore(first.saveState());
+            resumed.update(content, split, content.length - split);
+
+            assertArrayEquals(MessageDigest.getInstance("SHA-256").digest(content), resumed.digest(), "split " + split);
+        }
+    }
+}